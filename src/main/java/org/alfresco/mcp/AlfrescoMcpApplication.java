@@ -16,18 +16,23 @@
 
 package org.alfresco.mcp;
 
+import org.alfresco.mcp.service.AuditExportService;
 import org.alfresco.mcp.service.AuditService;
 import org.alfresco.mcp.service.DiscoveryService;
 import org.alfresco.mcp.service.NodeService;
 import org.alfresco.mcp.service.ProbeService;
 import org.alfresco.mcp.service.QueryService;
+import org.alfresco.mcp.service.ResourceWatchService;
+import org.alfresco.mcp.service.StatisticsService;
+import org.alfresco.mcp.tool.ToolCallbackDecorator;
 import org.springframework.ai.tool.ToolCallbackProvider;
-import org.springframework.ai.tool.method.MethodToolCallbackProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class AlfrescoMcpApplication {
 
   public static void main(String[] args) {
@@ -35,27 +40,50 @@ public class AlfrescoMcpApplication {
   }
 
   @Bean
-  public ToolCallbackProvider auditSerivceTools(AuditService auditService) {
-    return MethodToolCallbackProvider.builder().toolObjects(auditService).build();
+  public ToolCallbackProvider auditSerivceTools(
+      AuditService auditService, ToolCallbackDecorator toolCallbackDecorator) {
+    return toolCallbackDecorator.decorate(auditService);
   }
 
   @Bean
-  public ToolCallbackProvider queryServiceTools(QueryService queryService) {
-    return MethodToolCallbackProvider.builder().toolObjects(queryService).build();
+  public ToolCallbackProvider auditExportServiceTools(
+      AuditExportService auditExportService, ToolCallbackDecorator toolCallbackDecorator) {
+    return toolCallbackDecorator.decorate(auditExportService);
   }
 
   @Bean
-  public ToolCallbackProvider probeServiceTools(ProbeService probeService) {
-    return MethodToolCallbackProvider.builder().toolObjects(probeService).build();
+  public ToolCallbackProvider queryServiceTools(
+      QueryService queryService, ToolCallbackDecorator toolCallbackDecorator) {
+    return toolCallbackDecorator.decorate(queryService);
   }
 
   @Bean
-  public ToolCallbackProvider nodeServiceTools(NodeService nodeService) {
-    return MethodToolCallbackProvider.builder().toolObjects(nodeService).build();
+  public ToolCallbackProvider probeServiceTools(
+      ProbeService probeService, ToolCallbackDecorator toolCallbackDecorator) {
+    return toolCallbackDecorator.decorate(probeService);
   }
 
   @Bean
-  public ToolCallbackProvider discoveryServiceTools(DiscoveryService discoveryService) {
-    return MethodToolCallbackProvider.builder().toolObjects(discoveryService).build();
+  public ToolCallbackProvider nodeServiceTools(
+      NodeService nodeService, ToolCallbackDecorator toolCallbackDecorator) {
+    return toolCallbackDecorator.decorate(nodeService);
+  }
+
+  @Bean
+  public ToolCallbackProvider discoveryServiceTools(
+      DiscoveryService discoveryService, ToolCallbackDecorator toolCallbackDecorator) {
+    return toolCallbackDecorator.decorate(discoveryService);
+  }
+
+  @Bean
+  public ToolCallbackProvider resourceWatchServiceTools(
+      ResourceWatchService resourceWatchService, ToolCallbackDecorator toolCallbackDecorator) {
+    return toolCallbackDecorator.decorate(resourceWatchService);
+  }
+
+  @Bean
+  public ToolCallbackProvider statisticsServiceTools(
+      StatisticsService statisticsService, ToolCallbackDecorator toolCallbackDecorator) {
+    return toolCallbackDecorator.decorate(statisticsService);
   }
 }
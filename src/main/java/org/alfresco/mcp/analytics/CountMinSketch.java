@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.analytics;
+
+/**
+ * Count-min sketch for approximate frequency counts in fixed memory. An estimate never
+ * underestimates the true count, and with probability {@code 1 - delta} overestimates it by at most
+ * {@code epsilon} times the total number of values added.
+ */
+public class CountMinSketch {
+
+  private final int width;
+  private final int depth;
+  private final long[] counters;
+  private final double epsilon;
+  private final double delta;
+  private long total;
+
+  public CountMinSketch(double epsilon, double delta) {
+    if (epsilon <= 0 || epsilon >= 1 || delta <= 0 || delta >= 1) {
+      throw new IllegalArgumentException("epsilon and delta must be between 0 and 1");
+    }
+    this.width = (int) Math.ceil(Math.E / epsilon);
+    this.depth = (int) Math.ceil(Math.log(1 / delta));
+    this.counters = new long[width * depth];
+    this.epsilon = epsilon;
+    this.delta = delta;
+  }
+
+  /** Adds one occurrence of {@code value} and returns its new estimated count. */
+  public long add(String value) {
+    total++;
+    long hash = Hashing.hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      int column = Math.floorMod(h1 + row * h2, width);
+      long count = ++counters[row * width + column];
+      estimate = Math.min(estimate, count);
+    }
+    return estimate;
+  }
+
+  public long estimate(String value) {
+    long hash = Hashing.hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      int column = Math.floorMod(h1 + row * h2, width);
+      estimate = Math.min(estimate, counters[row * width + column]);
+    }
+    return estimate;
+  }
+
+  public long total() {
+    return total;
+  }
+
+  /** The maximum overestimate of any count, which holds with probability {@link #confidence()}. */
+  public long maxOverestimate() {
+    return (long) Math.ceil(epsilon * total);
+  }
+
+  public double confidence() {
+    return 1 - delta;
+  }
+}
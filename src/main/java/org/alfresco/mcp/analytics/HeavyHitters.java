@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Tracks the {@code k} most frequent values of a stream, using a {@link CountMinSketch} for the
+ * counts and a min-heap of at most {@code k} candidates.
+ */
+public class HeavyHitters {
+
+  private final int k;
+  private final CountMinSketch sketch;
+  private final Map<String, Long> candidates = new HashMap<>();
+  private final PriorityQueue<String> heap;
+
+  public HeavyHitters(int k, double epsilon, double delta) {
+    this.k = k;
+    this.sketch = new CountMinSketch(epsilon, delta);
+    this.heap = new PriorityQueue<>(k + 1, Comparator.comparingLong(candidates::get));
+  }
+
+  public void add(String value) {
+    long estimate = sketch.add(value);
+    if (candidates.containsKey(value)) {
+      heap.remove(value);
+      candidates.put(value, estimate);
+      heap.add(value);
+    } else if (candidates.size() < k) {
+      candidates.put(value, estimate);
+      heap.add(value);
+    } else if (estimate > candidates.get(heap.peek())) {
+      candidates.remove(heap.poll());
+      candidates.put(value, estimate);
+      heap.add(value);
+    }
+  }
+
+  /** The tracked values, most frequent first. */
+  public List<HeavyHitter> top() {
+    List<HeavyHitter> top = new ArrayList<>(candidates.size());
+    long maxOverestimate = sketch.maxOverestimate();
+    candidates.forEach((value, count) -> top.add(new HeavyHitter(value, count, maxOverestimate)));
+    top.sort(Comparator.comparingLong(HeavyHitter::count).reversed());
+    return top;
+  }
+
+  public CountMinSketch sketch() {
+    return sketch;
+  }
+
+  /**
+   * A frequent value.
+   *
+   * @param value the value
+   * @param count the estimated count, never lower than the true count
+   * @param maxOverestimate the bound on how much {@code count} may exceed the true count
+   */
+  public record HeavyHitter(String value, long count, long maxOverestimate) {}
+}
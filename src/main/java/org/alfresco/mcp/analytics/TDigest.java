@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest for approximate quantiles in fixed memory. Values are buffered and periodically
+ * merged into at most about {@code 2 * compression} centroids. Centroids near the tails are kept
+ * small, so extreme quantiles are more accurate than the median.
+ */
+public class TDigest {
+
+  private final double compression;
+
+  private double[] means;
+  private double[] weights;
+  private int centroids;
+
+  private final double[] buffer;
+  private int buffered;
+
+  private double totalWeight;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  public TDigest(double compression) {
+    this.compression = compression;
+    int capacity = (int) Math.ceil(2 * compression) + 10;
+    this.means = new double[capacity];
+    this.weights = new double[capacity];
+    this.buffer = new double[capacity * 5];
+  }
+
+  public void add(double value) {
+    if (Double.isNaN(value)) {
+      return;
+    }
+    buffer[buffered++] = value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    if (buffered == buffer.length) {
+      merge();
+    }
+  }
+
+  public long count() {
+    return (long) (totalWeight + buffered);
+  }
+
+  /** Returns the estimated value at quantile {@code q} (0.0 - 1.0), or NaN if empty. */
+  public double quantile(double q) {
+    merge();
+    if (centroids == 0) {
+      return Double.NaN;
+    }
+    if (centroids == 1 || q <= 0) {
+      return q <= 0 ? min : means[0];
+    }
+    if (q >= 1) {
+      return max;
+    }
+
+    double index = q * totalWeight;
+    if (index < weights[0] / 2) {
+      return min + (means[0] - min) * (index / (weights[0] / 2));
+    }
+
+    double cumulative = weights[0] / 2;
+    for (int i = 0; i < centroids - 1; i++) {
+      double step = (weights[i] + weights[i + 1]) / 2;
+      if (cumulative + step > index) {
+        double fraction = (index - cumulative) / step;
+        return means[i] + (means[i + 1] - means[i]) * fraction;
+      }
+      cumulative += step;
+    }
+
+    double lastHalf = weights[centroids - 1] / 2;
+    double fraction = Math.min(1, (index - cumulative) / lastHalf);
+    return means[centroids - 1] + (max - means[centroids - 1]) * fraction;
+  }
+
+  /**
+   * An approximate bound on the rank error of {@link #quantile(double)}, as a fraction of the
+   * number of values: half the maximum weight a centroid at {@code q} may have.
+   */
+  public double rankError(double q) {
+    return Math.max(2 * q * (1 - q) / compression, totalWeight == 0 ? 0 : 1 / totalWeight);
+  }
+
+  private void merge() {
+    if (buffered == 0) {
+      return;
+    }
+    Arrays.sort(buffer, 0, buffered);
+
+    int incoming = centroids + buffered;
+    double[] mergedMeans = new double[incoming];
+    double[] mergedWeights = new double[incoming];
+    int c = 0;
+    int b = 0;
+    for (int i = 0; i < incoming; i++) {
+      if (b >= buffered || (c < centroids && means[c] <= buffer[b])) {
+        mergedMeans[i] = means[c];
+        mergedWeights[i] = weights[c++];
+      } else {
+        mergedMeans[i] = buffer[b++];
+        mergedWeights[i] = 1;
+      }
+    }
+
+    double total = totalWeight + buffered;
+    int count = 0;
+    double cumulative = 0;
+    double mean = mergedMeans[0];
+    double weight = mergedWeights[0];
+    for (int i = 1; i < incoming; i++) {
+      double proposed = weight + mergedWeights[i];
+      double q = (cumulative + proposed / 2) / total;
+      double limit = Math.max(1, 4 * total * q * (1 - q) / compression);
+      if (proposed <= limit) {
+        mean += (mergedMeans[i] - mean) * mergedWeights[i] / proposed;
+        weight = proposed;
+      } else {
+        count = append(count, mean, weight);
+        cumulative += weight;
+        mean = mergedMeans[i];
+        weight = mergedWeights[i];
+      }
+    }
+    count = append(count, mean, weight);
+
+    centroids = count;
+    totalWeight = total;
+    buffered = 0;
+  }
+
+  private int append(int index, double mean, double weight) {
+    if (index == means.length) {
+      means = Arrays.copyOf(means, index * 2);
+      weights = Arrays.copyOf(weights, index * 2);
+    }
+    means[index] = mean;
+    weights[index] = weight;
+    return index + 1;
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.async;
+
+import static org.alfresco.mcp.http.AlfrescoEndpoint.encode;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.mcp.http.AlfrescoEndpoint;
+import org.alfresco.mcp.service.StatisticsProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking client for the Alfresco REST API endpoints used by the natively asynchronous tools.
+ * Requests are sent with the JDK {@link HttpClient}, so no thread is held while Alfresco Content
+ * Service is working on a request. Responses are bound to the same SDK model classes as the
+ * blocking clients.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+public class AlfrescoAsyncClient implements StatisticsProvider {
+
+  private final AlfrescoEndpoint endpoint;
+  private final ObjectMapper objectMapper;
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong cancelled = new AtomicLong();
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  public AlfrescoAsyncClient(ObjectMapper objectMapper, AlfrescoEndpoint endpoint) {
+    this.objectMapper = objectMapper;
+    this.endpoint = endpoint;
+  }
+
+  public Mono<AuditEntryPaging> listAuditEntriesForAuditApp(
+      String appId, int maxItems, String where) {
+    Map<String, String> query = new LinkedHashMap<>();
+    query.put("skipCount", "0");
+    query.put("omitTotalItems", "false");
+    query.put("maxItems", Integer.toString(maxItems));
+    query.put("where", where);
+    query.put("include", "values");
+    return get("/audit-applications/" + encode(appId) + "/audit-entries", query)
+        .map(body -> read(body, AuditEntryPaging.class));
+  }
+
+  public Mono<AuditEntryPaging> listAuditEntriesForNode(String nodeId, int maxItems) {
+    Map<String, String> query = new LinkedHashMap<>();
+    query.put("skipCount", "0");
+    query.put("maxItems", Integer.toString(maxItems));
+    query.put("include", "values");
+    return get("/nodes/" + encode(nodeId) + "/audit-entries", query)
+        .map(body -> read(body, AuditEntryPaging.class));
+  }
+
+  private Mono<byte[]> get(String path, Map<String, String> query) {
+    HttpRequest request = endpoint.get(path, query);
+
+    return Mono.defer(
+            () -> {
+              requests.incrementAndGet();
+              inFlight.incrementAndGet();
+              return Mono.fromFuture(
+                  endpoint
+                      .httpClient()
+                      .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()));
+            })
+        .doOnCancel(cancelled::incrementAndGet)
+        .doFinally(signal -> inFlight.decrementAndGet())
+        .flatMap(
+            response -> {
+              if (response.statusCode() / 100 != 2) {
+                failed.incrementAndGet();
+                return Mono.error(
+                    new IllegalStateException(
+                        "Request to " + path + " failed with status " + response.statusCode()));
+              }
+              return Mono.just(response.body());
+            });
+  }
+
+  private <T> T read(byte[] body, Class<T> type) {
+    try {
+      return objectMapper.readValue(body, type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String getStatisticsName() {
+    return "asyncUpstreamCalls";
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("requests", requests.get());
+    statistics.put("failed", failed.get());
+    statistics.put("cancelledInFlight", cancelled.get());
+    statistics.put("inFlight", inFlight.get());
+    return statistics;
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.async;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.mcp.cache.ToolResultCache;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.logging.PayloadLogger;
+import org.alfresco.mcp.model.OperationResponse;
+import org.alfresco.mcp.scheduling.ToolScheduler;
+import org.alfresco.mcp.service.AuditService;
+import org.alfresco.mcp.tool.McpSessions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+
+/**
+ * Registers non-blocking implementations of the audit entry tools when the MCP server runs in
+ * asynchronous mode ({@code spring.ai.mcp.server.type=ASYNC}). The tool definitions are taken from
+ * the {@link AuditService} methods, but calls are served by the {@link AlfrescoAsyncClient} and
+ * hold no thread while waiting for Alfresco Content Service. All other tools keep running on the
+ * blocking clients.
+ *
+ * <p>The calls get the same treatment as the decorated blocking tools, in the same order: they are
+ * logged and their payloads sampled, served from and stored in the {@link ToolResultCache}, bounded
+ * by the tool's deadline and admitted by the {@link ToolScheduler}, whose queueing counts against
+ * the deadline.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+public class AsyncAuditTools {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncAuditTools.class);
+
+  /** The tools served by this class in asynchronous mode instead of by {@link AuditService}. */
+  public static final Set<String> TOOL_NAMES =
+      Set.of(
+          "get_audit_entries",
+          "get_x_audit_entries",
+          "get_x_audit_entries_where_y",
+          "get_audit_entries_for_specific_node",
+          "get_x_audit_entries_for_specific_node");
+
+  private static final int DEFAULT_LIMIT = 100;
+
+  @Bean
+  public List<AsyncToolSpecification> asyncAuditToolSpecifications(
+      AuditService auditService,
+      AlfrescoAsyncClient client,
+      ObjectMapper objectMapper,
+      ExecutionProperties executionProperties,
+      ToolScheduler toolScheduler,
+      ToolResultCache toolResultCache,
+      PayloadLogger payloadLogger) {
+    Invoker invoker =
+        new Invoker(
+            client,
+            objectMapper,
+            executionProperties,
+            toolScheduler,
+            toolResultCache,
+            payloadLogger);
+    List<AsyncToolSpecification> specifications = new ArrayList<>();
+    for (ToolCallback toolCallback :
+        MethodToolCallbackProvider.builder().toolObjects(auditService).build().getToolCallbacks()) {
+      ToolDefinition definition = toolCallback.getToolDefinition();
+      if (TOOL_NAMES.contains(definition.name())) {
+        McpSchema.Tool tool =
+            new McpSchema.Tool(
+                definition.name(), definition.description(), definition.inputSchema());
+        specifications.add(
+            new AsyncToolSpecification(
+                tool,
+                (exchange, arguments) -> invoker.call(definition.name(), exchange, arguments)));
+      }
+    }
+    return specifications;
+  }
+
+  /** Runs the asynchronous tool calls through the async equivalents of the tool decorators. */
+  private static final class Invoker {
+
+    private final AlfrescoAsyncClient client;
+    private final ObjectMapper objectMapper;
+    private final ExecutionProperties executionProperties;
+    private final ToolScheduler toolScheduler;
+    private final ToolResultCache toolResultCache;
+    private final PayloadLogger payloadLogger;
+
+    private Invoker(
+        AlfrescoAsyncClient client,
+        ObjectMapper objectMapper,
+        ExecutionProperties executionProperties,
+        ToolScheduler toolScheduler,
+        ToolResultCache toolResultCache,
+        PayloadLogger payloadLogger) {
+      this.client = client;
+      this.objectMapper = objectMapper;
+      this.executionProperties = executionProperties;
+      this.toolScheduler = toolScheduler;
+      this.toolResultCache = toolResultCache;
+      this.payloadLogger = payloadLogger;
+    }
+
+    private Mono<McpSchema.CallToolResult> call(
+        String toolName, McpAsyncServerExchange exchange, Map<String, Object> arguments) {
+      long start = System.nanoTime();
+      String toolInput = toJson(arguments);
+      boolean sampled = payloadLogger.decide(toolName);
+      debug(sampled, "Tool input: {}", toolInput);
+      boolean cached = toolResultCache.isCached(toolName);
+
+      Mono<String> result =
+          Mono.defer(() -> request(toolName, arguments, client))
+              .map(AuditService::toOperationResponse)
+              .map(response -> toResult(toolName, toolInput, response, cached));
+      if (toolScheduler.isEnabled()) {
+        Mono<String> admitted = result;
+        result =
+            Mono.usingWhen(
+                toolScheduler.acquireAsync(toolName, McpSessions.of(exchange)),
+                permit -> admitted,
+                permit -> Mono.fromRunnable(permit::close));
+      }
+      result = result.timeout(executionProperties.deadline(toolName));
+      if (cached) {
+        Mono<String> uncached = result;
+        result =
+            Mono.defer(
+                () -> {
+                  String hit = toolResultCache.get(toolName, toolInput);
+                  return hit != null ? Mono.just(hit) : uncached;
+                });
+      }
+
+      return result
+          .map(
+              json -> {
+                log.info(
+                    "tool={} status=ok elapsedMs={} inputChars={} resultChars={} mode=async",
+                    toolName,
+                    (System.nanoTime() - start) / 1_000_000,
+                    toolInput.length(),
+                    json.length());
+                debug(sampled, "Tool result: {}", json);
+                return new McpSchema.CallToolResult(
+                    List.of(new McpSchema.TextContent(json)), false);
+              })
+          .onErrorResume(
+              e -> {
+                log.warn(
+                    "tool={} status=error elapsedMs={} mode=async error={}",
+                    toolName,
+                    (System.nanoTime() - start) / 1_000_000,
+                    e.toString());
+                String json = toJson(failure(toolName, e));
+                debug(sampled, "Tool result: {}", json);
+                return Mono.just(
+                    new McpSchema.CallToolResult(List.of(new McpSchema.TextContent(json)), false));
+              });
+    }
+
+    /** The response the blocking audit tools give when Alfresco cannot be read. */
+    private static OperationResponse<Object> failure(String toolName, Throwable e) {
+      String reason;
+      if (e instanceof TimeoutException) {
+        reason = "Tool call " + toolName + " exceeded its deadline";
+      } else {
+        reason = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+      }
+      return OperationResponse.builder()
+          .success(false)
+          .data(Collections.emptySet())
+          .messages(List.of("Error retrieving audit entries: " + reason))
+          .build();
+    }
+
+    /** Serializes a response and caches it if it is successful. */
+    private String toResult(
+        String toolName, String toolInput, OperationResponse<Object> response, boolean cached) {
+      String json = toJson(response);
+      if (cached && response.isSuccess()) {
+        toolResultCache.put(toolName, toolInput, json);
+      }
+      return json;
+    }
+
+    private String toJson(Object value) {
+      try {
+        return objectMapper.writeValueAsString(value);
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("Unable to serialize tool payload", e);
+      }
+    }
+
+    private void debug(boolean sampled, String message, String payload) {
+      try (PayloadLogger.Scope scope = payloadLogger.bind(sampled)) {
+        payloadLogger.debug(log, message, payload);
+      }
+    }
+  }
+
+  private static Mono<AuditEntryPaging> request(
+      String toolName, Map<String, Object> arguments, AlfrescoAsyncClient client) {
+    return switch (toolName) {
+      case "get_audit_entries" -> client.listAuditEntriesForAuditApp(
+          string(arguments, "appId"), DEFAULT_LIMIT, null);
+      case "get_x_audit_entries" -> client.listAuditEntriesForAuditApp(
+          string(arguments, "appId"), integer(arguments, "limit"), null);
+      case "get_x_audit_entries_where_y" -> client.listAuditEntriesForAuditApp(
+          string(arguments, "appId"), integer(arguments, "limit"), string(arguments, "where"));
+      case "get_audit_entries_for_specific_node" -> client.listAuditEntriesForNode(
+          string(arguments, "nodeId"), DEFAULT_LIMIT);
+      case "get_x_audit_entries_for_specific_node" -> client.listAuditEntriesForNode(
+          string(arguments, "nodeId"), integer(arguments, "limit"));
+      default -> Mono.error(new IllegalArgumentException("Unknown tool: " + toolName));
+    };
+  }
+
+  private static String string(Map<String, Object> arguments, String name) {
+    Object value = arguments.get(name);
+    return value == null ? null : value.toString();
+  }
+
+  private static int integer(Map<String, Object> arguments, String name) {
+    Object value = arguments.get(name);
+    if (value instanceof Number number) {
+      return number.intValue();
+    }
+    return value == null ? DEFAULT_LIMIT : Integer.parseInt(value.toString());
+  }
+}
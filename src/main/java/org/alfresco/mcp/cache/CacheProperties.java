@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.cache;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls the persistent tool result cache.
+ *
+ * @param enabled whether tool results are cached
+ * @param file the file the cache is persisted to between processes, by default {@code
+ *     ~/.alfresco-mcp/tool-cache.bin}
+ * @param flushInterval how often changes are written to the file
+ * @param maxEntries the maximum number of cached results
+ * @param ttl the time to live of cached results, keyed by tool name; only these tools are cached
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.cache")
+public record CacheProperties(
+    @DefaultValue("true") boolean enabled,
+    String file,
+    @DefaultValue("60s") Duration flushInterval,
+    @DefaultValue("10000") int maxEntries,
+    Map<String, Duration> ttl) {
+
+  public CacheProperties {
+    ttl = ttl == null ? Map.of() : Map.copyOf(ttl);
+  }
+
+  public Path path() {
+    return file == null || file.isBlank()
+        ? Path.of(System.getProperty("user.home"), ".alfresco-mcp", "tool-cache.bin")
+        : Path.of(file);
+  }
+
+  public boolean isCached(String toolName) {
+    return enabled && ttl.containsKey(toolName);
+  }
+}
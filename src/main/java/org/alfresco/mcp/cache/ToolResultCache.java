@@ -0,0 +1,362 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.alfresco.discovery.handler.DiscoveryApi;
+import org.alfresco.discovery.model.DiscoveryEntry;
+import org.alfresco.mcp.service.StatisticsProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of tool results that survives restarts of the (per client session) server process.
+ *
+ * <p>Entries are keyed by repository URL, user, tool name and tool input. The cache file is only
+ * read on first use, through a memory mapped buffer, and is rewritten periodically and on shutdown
+ * when entries changed. Every entry has a time to live and records the repository version it was
+ * created against. Entries read from the file are not served until the current version has been
+ * fetched in the background; then entries of other versions are dropped. When the version cannot be
+ * fetched the check is retried after the flush interval, and until then only results cached by this
+ * process are served.
+ */
+@Component
+public class ToolResultCache implements StatisticsProvider, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ToolResultCache.class);
+
+  private static final int MAGIC = 0x414d4331; // "AMC1"
+  private static final int MAX_STRING_BYTES = 64 * 1024 * 1024;
+
+  private final CacheProperties properties;
+  private final DiscoveryApi discoveryApi;
+  private final ObjectMapper objectMapper;
+  private final String scope;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<String, Entry> unverified = new ConcurrentHashMap<>();
+  private final AtomicBoolean loaded = new AtomicBoolean();
+  private final AtomicBoolean dirty = new AtomicBoolean();
+  private final ScheduledExecutorService scheduler;
+  private volatile String repositoryVersion;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong loadedFromDisk = new AtomicLong();
+  private final AtomicLong invalidatedByVersion = new AtomicLong();
+
+  public ToolResultCache(
+      CacheProperties properties,
+      DiscoveryApi discoveryApi,
+      ObjectMapper objectMapper,
+      @Value("${content.service.url}") String url,
+      @Value("${content.service.security.basicAuth.username:}") String username) {
+    this.properties = properties;
+    this.discoveryApi = discoveryApi;
+    this.objectMapper = objectMapper;
+    this.scope = url + "|" + username;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "tool-cache");
+              thread.setDaemon(true);
+              return thread;
+            });
+    if (properties.enabled()) {
+      long interval = properties.flushInterval().toMillis();
+      scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public boolean isCached(String toolName) {
+    return properties.isCached(toolName);
+  }
+
+  /** Returns the cached result of a tool call, or {@code null}. */
+  public String get(String toolName, String toolInput) {
+    ensureLoaded();
+    String key = key(toolName, toolInput);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+    if (entry.expiresAt() <= System.currentTimeMillis()) {
+      entries.remove(key, entry);
+      dirty.set(true);
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    return entry.result();
+  }
+
+  /** Returns whether a result is cached without counting a hit or miss. */
+  public boolean contains(String toolName, String toolInput) {
+    ensureLoaded();
+    Entry entry = entries.get(key(toolName, toolInput));
+    return entry != null && entry.expiresAt() > System.currentTimeMillis();
+  }
+
+  public void put(String toolName, String toolInput, String result) {
+    ensureLoaded();
+    long ttl = properties.ttl().get(toolName).toMillis();
+    entries.put(
+        key(toolName, toolInput),
+        new Entry(result, System.currentTimeMillis() + ttl, repositoryVersion));
+    dirty.set(true);
+    if (entries.size() > properties.maxEntries()) {
+      evict();
+    }
+  }
+
+  private String key(String toolName, String toolInput) {
+    return scope + '\u0000' + toolName + '\u0000' + normalize(toolInput);
+  }
+
+  /** Orders the arguments of a JSON tool input by name, so equal inputs have the same key. */
+  private String normalize(String toolInput) {
+    if (toolInput == null || toolInput.isBlank()) {
+      return "{}";
+    }
+    try {
+      return objectMapper.writeValueAsString(objectMapper.readValue(toolInput, TreeMap.class));
+    } catch (JsonProcessingException e) {
+      return toolInput;
+    }
+  }
+
+  private void evict() {
+    long now = System.currentTimeMillis();
+    entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    while (entries.size() > properties.maxEntries()) {
+      entries.entrySet().stream()
+          .min((a, b) -> Long.compare(a.getValue().expiresAt(), b.getValue().expiresAt()))
+          .ifPresent(oldest -> entries.remove(oldest.getKey()));
+    }
+  }
+
+  private void ensureLoaded() {
+    if (loaded.compareAndSet(false, true)) {
+      load();
+      scheduler.execute(this::revalidate);
+    }
+  }
+
+  /** Reads the cache file into the unverified entries; a corrupt file is ignored as a whole. */
+  private void load() {
+    Path file = properties.path();
+    if (!Files.isRegularFile(file)) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    Map<String, Entry> read = new LinkedHashMap<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+        log.warn("Ignoring tool cache file with unknown format: {}", file);
+        return;
+      }
+      int count = buffer.getInt();
+      for (int i = 0; i < count; i++) {
+        String key = readString(buffer);
+        String result = readString(buffer);
+        long expiresAt = buffer.getLong();
+        String version = readString(buffer);
+        if (expiresAt > now && key != null && result != null && version != null) {
+          read.put(key, new Entry(result, expiresAt, version));
+        }
+      }
+    } catch (IOException | BufferUnderflowException e) {
+      log.warn("Ignoring unreadable tool cache file: {}", file, e);
+      return;
+    }
+    unverified.putAll(read);
+    loadedFromDisk.addAndGet(read.size());
+    log.info("Loaded {} cached tool results from {}", read.size(), file);
+  }
+
+  /**
+   * Fetches the current repository version, makes the entries read from the file that were created
+   * against it available and drops the others.
+   */
+  private void revalidate() {
+    try {
+      ResponseEntity<DiscoveryEntry> response = discoveryApi.getRepositoryInformation();
+      DiscoveryEntry discoveryEntry = response.getBody();
+      if (!response.getStatusCode().is2xxSuccessful()
+          || discoveryEntry == null
+          || discoveryEntry.getEntry() == null
+          || discoveryEntry.getEntry().getRepository() == null
+          || discoveryEntry.getEntry().getRepository().getVersion() == null) {
+        log.warn("Unable to revalidate tool cache: no repository version available");
+        retryRevalidation();
+        return;
+      }
+      String version = discoveryEntry.getEntry().getRepository().getVersion().getDisplay();
+      repositoryVersion = version;
+      // Results cached before the version was known were created against the current repository
+      entries.replaceAll(
+          (key, entry) ->
+              entry.repositoryVersion() == null
+                  ? new Entry(entry.result(), entry.expiresAt(), version)
+                  : entry);
+      for (Map.Entry<String, Entry> entry : unverified.entrySet()) {
+        if (version.equals(entry.getValue().repositoryVersion())) {
+          entries.putIfAbsent(entry.getKey(), entry.getValue());
+        } else {
+          invalidatedByVersion.incrementAndGet();
+          dirty.set(true);
+        }
+      }
+      unverified.clear();
+    } catch (RuntimeException e) {
+      log.warn("Unable to revalidate tool cache against the repository version", e);
+      retryRevalidation();
+    }
+  }
+
+  private void retryRevalidation() {
+    if (!scheduler.isShutdown()) {
+      scheduler.schedule(
+          this::revalidate, properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** Writes the cache to its file if it changed since the last write. */
+  public void flush() {
+    if (!loaded.get() || !dirty.compareAndSet(true, false)) {
+      return;
+    }
+    Path file = properties.path().toAbsolutePath();
+    long now = System.currentTimeMillis();
+    Path temp = null;
+    try {
+      Files.createDirectories(file.getParent());
+      // Unverified entries are kept for the next process unless this one has revalidated them
+      Map<String, Entry> snapshot = new LinkedHashMap<>(unverified);
+      snapshot.putAll(entries);
+      snapshot.values().removeIf(entry -> entry.expiresAt() <= now);
+      temp = Files.createTempFile(file.getParent(), file.getFileName() + ".", ".tmp");
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(snapshot.size());
+        for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+          writeString(out, entry.getKey());
+          writeString(out, entry.getValue().result());
+          out.writeLong(entry.getValue().expiresAt());
+          writeString(out, entry.getValue().repositoryVersion());
+        }
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      temp = null;
+      log.debug("Wrote {} cached tool results to {}", snapshot.size(), file);
+    } catch (IOException e) {
+      dirty.set(true);
+      log.warn("Unable to write tool cache file: {}", file, e);
+    } finally {
+      deleteQuietly(temp);
+    }
+  }
+
+  private static void deleteQuietly(Path temp) {
+    if (temp == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(temp);
+    } catch (IOException e) {
+      log.debug("Unable to delete temporary tool cache file: {}", temp, e);
+    }
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length == -1) {
+      return null;
+    }
+    if (length < 0 || length > MAX_STRING_BYTES || length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  @Override
+  public String getStatisticsName() {
+    return "toolResultCache";
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("entries", entries.size());
+    statistics.put("awaitingRevalidation", unverified.size());
+    statistics.put("hits", hits.get());
+    statistics.put("misses", misses.get());
+    statistics.put("loadedFromDisk", loadedFromDisk.get());
+    statistics.put("invalidatedByVersion", invalidatedByVersion.get());
+    statistics.put("repositoryVersion", repositoryVersion);
+    return statistics;
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+    flush();
+  }
+
+  private record Entry(String result, long expiresAt, String repositoryVersion) {}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.execution;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Deadline and cancellation state of a single tool call. The context is bound to the thread that
+ * runs the tool and is propagated by the {@link UpstreamExecutor} to the threads that perform the
+ * upstream calls, so that every piece of work done for a tool call can be aborted together.
+ *
+ * <p>The MCP server interrupts the thread running a tool when it drops the request, for instance
+ * because the client disconnected. An interrupt of the thread that created the context is therefore
+ * treated as a cancellation of the whole call, while an interrupted upstream thread only gives up
+ * its own task.
+ */
+public final class CallContext {
+
+  private static final ThreadLocal<CallContext> CURRENT = new ThreadLocal<>();
+
+  private final String toolName;
+  private final long deadlineNanos;
+  private final Thread owner = Thread.currentThread();
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+  private final Set<Future<?>> inFlight = ConcurrentHashMap.newKeySet();
+
+  public CallContext(String toolName, Duration timeout) {
+    this.toolName = toolName;
+    this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+  }
+
+  /** Returns the context bound to the current thread, or {@code null} outside a tool call. */
+  public static CallContext current() {
+    return CURRENT.get();
+  }
+
+  public String getToolName() {
+    return toolName;
+  }
+
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+  }
+
+  public boolean isExpired() {
+    return System.nanoTime() - deadlineNanos >= 0;
+  }
+
+  public boolean isCancelled() {
+    return cancelled.get();
+  }
+
+  /** Throws {@link CallAbortedException} if the call was cancelled or has run out of time. */
+  public void checkActive() {
+    if (Thread.currentThread() == owner && owner.isInterrupted()) {
+      cancel();
+    }
+    if (isCancelled()) {
+      throw new CallAbortedException("Tool call " + toolName + " was cancelled");
+    }
+    if (isExpired()) {
+      throw new CallAbortedException("Tool call " + toolName + " exceeded its deadline");
+    }
+  }
+
+  /** Cancels the call and interrupts all upstream work that is still in flight for it. */
+  public void cancel() {
+    if (cancelled.compareAndSet(false, true)) {
+      inFlight.forEach(future -> future.cancel(true));
+    }
+  }
+
+  void register(Future<?> future) {
+    inFlight.add(future);
+    if (isCancelled()) {
+      future.cancel(true);
+    }
+  }
+
+  void unregister(Future<?> future) {
+    inFlight.remove(future);
+  }
+
+  /** Binds this context to the current thread until the returned scope is closed. */
+  public Scope attach() {
+    CallContext previous = CURRENT.get();
+    CURRENT.set(this);
+    return () -> {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    };
+  }
+
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
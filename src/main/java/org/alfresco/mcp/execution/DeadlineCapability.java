@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.execution;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounds the HTTP calls made by the Alfresco Feign clients by the deadline of the current tool
+ * call. Interrupting a thread does not stop a blocking {@code HttpURLConnection} read, so the
+ * connect and read timeouts of each request are lowered to the time the tool call has left, and a
+ * request is not sent at all once the call was cancelled or its deadline has passed. Requests made
+ * outside of a tool call keep the configured timeouts.
+ */
+@Component
+public class DeadlineCapability implements Capability {
+
+  @Override
+  public Client enrich(Client client) {
+    return new DeadlineClient(client);
+  }
+
+  static final class DeadlineClient implements Client {
+
+    private final Client delegate;
+
+    DeadlineClient(Client delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+      CallContext context = CallContext.current();
+      if (context == null) {
+        return delegate.execute(request, options);
+      }
+      context.checkActive();
+      return delegate.execute(request, bounded(options, context.remaining().toMillis()));
+    }
+
+    /** Lowers both timeouts to {@code remainingMillis}. */
+    static Request.Options bounded(Request.Options options, long remainingMillis) {
+      long limit = Math.max(1, remainingMillis);
+      return new Request.Options(
+          cap(options.connectTimeoutMillis(), limit),
+          TimeUnit.MILLISECONDS,
+          cap(options.readTimeoutMillis(), limit),
+          TimeUnit.MILLISECONDS,
+          options.isFollowRedirects());
+    }
+
+    /** A timeout of zero means no timeout, so it is replaced by the limit rather than kept. */
+    private static long cap(long timeoutMillis, long limit) {
+      return timeoutMillis <= 0 ? limit : Math.min(timeoutMillis, limit);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.execution;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls how tool calls and the upstream Alfresco calls they make are executed.
+ *
+ * @param defaultDeadline the time a tool call may take before it is aborted
+ * @param deadlines per tool overrides of the deadline, keyed by tool name
+ * @param upstreamThreads the number of threads used to run upstream calls
+ * @param fanOutParallelism the maximum number of concurrent upstream calls made by one tool call
+ * @param subFetchTimeout the time each part of a composite tool call, such as the node dossier, may
+ *     take before the tool returns without it
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.execution")
+public record ExecutionProperties(
+    @DefaultValue("60s") Duration defaultDeadline,
+    Map<String, Duration> deadlines,
+    @DefaultValue("32") int upstreamThreads,
+    @DefaultValue("8") int fanOutParallelism,
+    @DefaultValue("10s") Duration subFetchTimeout) {
+
+  public ExecutionProperties {
+    deadlines = deadlines == null ? Map.of() : Map.copyOf(deadlines);
+  }
+
+  public Duration deadline(String toolName) {
+    return deadlines.getOrDefault(toolName, defaultDeadline);
+  }
+}
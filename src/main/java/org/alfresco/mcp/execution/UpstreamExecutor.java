@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.execution;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.alfresco.mcp.service.StatisticsProvider;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the blocking calls to Alfresco Content Service on behalf of tool calls. Each call runs on a
+ * pool thread with the caller's {@link CallContext} attached, and the caller waits for it only as
+ * long as the context's deadline allows. When the deadline passes or the tool call is cancelled the
+ * pool thread is interrupted and the caller gets a {@link CallAbortedException}; the HTTP request
+ * itself is bounded by the same deadline through {@link DeadlineCapability}. When the thread
+ * running the tool is interrupted while it waits, the whole call is cancelled. Cancellations are
+ * counted wherever they come from, whether a timed out wait or {@link CallContext#cancel()}.
+ */
+@Component
+public class UpstreamExecutor implements StatisticsProvider, DisposableBean {
+
+  private final ExecutorService executor;
+
+  private final AtomicLong submitted = new AtomicLong();
+  private final AtomicLong succeeded = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong cancelledInFlight = new AtomicLong();
+  private final AtomicLong cancelledQueued = new AtomicLong();
+  private final AtomicInteger outstanding = new AtomicInteger();
+
+  public UpstreamExecutor(ExecutionProperties properties) {
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor =
+        Executors.newFixedThreadPool(
+            properties.upstreamThreads(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "alfresco-upstream-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Performs an upstream call within the deadline of the current tool call. Outside of a tool call
+   * the call is made directly on the calling thread.
+   */
+  public <T> T call(Supplier<T> upstreamCall) {
+    if (CallContext.current() == null) {
+      return upstreamCall.get();
+    }
+    return await(submit(upstreamCall));
+  }
+
+  /**
+   * Starts an upstream call asynchronously, for tools that fan out to several calls. The current
+   * {@link CallContext} is propagated to the task.
+   */
+  public <T> Future<T> submit(Supplier<T> task) {
+    CallContext context = CallContext.current();
+    if (context != null) {
+      context.checkActive();
+    }
+
+    AtomicBoolean started = new AtomicBoolean();
+    FutureTask<T> future =
+        new FutureTask<>(
+            () -> {
+              started.set(true);
+              if (context == null) {
+                return task.get();
+              }
+              try (CallContext.Scope scope = context.attach()) {
+                context.checkActive();
+                return task.get();
+              }
+            }) {
+          @Override
+          public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+              (started.get() ? cancelledInFlight : cancelledQueued).incrementAndGet();
+            }
+            return cancelled;
+          }
+
+          @Override
+          protected void done() {
+            if (!isCancelled()) {
+              try {
+                get();
+                succeeded.incrementAndGet();
+              } catch (ExecutionException | InterruptedException e) {
+                failed.incrementAndGet();
+              }
+            }
+            outstanding.decrementAndGet();
+            if (context != null) {
+              context.unregister(this);
+            }
+          }
+        };
+
+    submitted.incrementAndGet();
+    outstanding.incrementAndGet();
+    if (context != null) {
+      context.register(future);
+    }
+    executor.execute(future);
+    return future;
+  }
+
+  /** Waits for a submitted call for at most the time left until the current deadline. */
+  public <T> T await(Future<T> future) {
+    CallContext context = CallContext.current();
+    return await(future, context == null ? null : context.remaining());
+  }
+
+  /**
+   * Waits for a submitted call for at most {@code timeout}, or the time left until the current
+   * deadline if that is shorter. A {@code null} timeout waits until the deadline.
+   */
+  public <T> T await(Future<T> future, Duration timeout) {
+    CallContext context = CallContext.current();
+    Duration wait = timeout;
+    if (context != null && (wait == null || context.remaining().compareTo(wait) < 0)) {
+      wait = context.remaining();
+    }
+
+    try {
+      return wait == null ? future.get() : future.get(wait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      if (context != null) {
+        context.checkActive();
+      }
+      throw new CallAbortedException("Upstream call timed out after " + wait.toMillis() + "ms");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      if (context != null) {
+        context.checkActive();
+      }
+      throw new CallAbortedException("Interrupted while waiting for upstream call");
+    } catch (CancellationException e) {
+      throw new CallAbortedException("Upstream call was cancelled");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("Upstream call failed", cause);
+    }
+  }
+
+  @Override
+  public String getStatisticsName() {
+    return "upstreamCalls";
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("submitted", submitted.get());
+    statistics.put("succeeded", succeeded.get());
+    statistics.put("failed", failed.get());
+    statistics.put("cancelledInFlight", cancelledInFlight.get());
+    statistics.put("cancelledQueued", cancelledQueued.get());
+    statistics.put("outstanding", outstanding.get());
+    return statistics;
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.http;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The Alfresco REST API as seen by the clients that call it with the JDK {@link HttpClient} rather
+ * than through the SDK: the API base URL, the Basic authentication header and one shared HTTP
+ * client.
+ */
+@Component
+public class AlfrescoEndpoint {
+
+  private static final String API_PATH = "/alfresco/api/-default-/public/alfresco/versions/1";
+
+  private final HttpClient httpClient;
+  private final String baseUrl;
+  private final String authorization;
+
+  public AlfrescoEndpoint(
+      @Value("${content.service.url}") String url,
+      @Value("${content.service.security.basicAuth.username:}") String username,
+      @Value("${content.service.security.basicAuth.password:}") String password) {
+    this.baseUrl = url.replaceAll("/+$", "") + API_PATH;
+    this.authorization =
+        "Basic "
+            + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+  }
+
+  public HttpClient httpClient() {
+    return httpClient;
+  }
+
+  /**
+   * Builds an authenticated JSON GET request for a path below the API base URL. Query parameters
+   * with a {@code null} value are left out.
+   */
+  public HttpRequest get(String path, Map<String, String> query) {
+    StringJoiner queryString = new StringJoiner("&", "?", "");
+    query.forEach(
+        (name, value) -> {
+          if (value != null) {
+            queryString.add(name + "=" + encode(value));
+          }
+        });
+    return HttpRequest.newBuilder(URI.create(baseUrl + path + queryString))
+        .header("Authorization", authorization)
+        .header("Accept", "application/json")
+        .GET()
+        .build();
+  }
+
+  /** Encodes a path segment or query parameter value. */
+  public static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+  }
+}
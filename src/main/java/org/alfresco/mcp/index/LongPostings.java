@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Maps {@code long} keys to growable lists of {@code int} document numbers, with open addressing
+ * over primitive arrays instead of boxed map entries.
+ */
+final class LongPostings {
+
+  private static final int INITIAL_LIST_SIZE = 2;
+
+  private long[] keys;
+  private int[][] lists;
+  private int[] sizes;
+  private boolean[] used;
+  private int size;
+  private long postings;
+
+  LongPostings(int expectedKeys) {
+    int capacity = Integer.highestOneBit(Math.max(16, expectedKeys * 2) - 1) << 1;
+    keys = new long[capacity];
+    lists = new int[capacity][];
+    sizes = new int[capacity];
+    used = new boolean[capacity];
+  }
+
+  void add(long key, int document) {
+    if ((size + 1) * 2 > keys.length) {
+      resize(keys.length * 2);
+    }
+    int slot = slot(key);
+    if (!used[slot]) {
+      used[slot] = true;
+      keys[slot] = key;
+      lists[slot] = new int[INITIAL_LIST_SIZE];
+      size++;
+    }
+    int[] list = lists[slot];
+    if (sizes[slot] == list.length) {
+      list = Arrays.copyOf(list, list.length * 2);
+      lists[slot] = list;
+    }
+    list[sizes[slot]++] = document;
+    postings++;
+  }
+
+  /** Calls {@code consumer} with every document added under {@code key}, in insertion order. */
+  void forEach(long key, IntConsumer consumer) {
+    int slot = slot(key);
+    if (used[slot]) {
+      int[] list = lists[slot];
+      for (int i = 0, n = sizes[slot]; i < n; i++) {
+        consumer.accept(list[i]);
+      }
+    }
+  }
+
+  int count(long key) {
+    int slot = slot(key);
+    return used[slot] ? sizes[slot] : 0;
+  }
+
+  int keys() {
+    return size;
+  }
+
+  long estimatedBytes() {
+    long bytes = keys.length * (8L + 4L + 4L + 1L);
+    for (int i = 0; i < lists.length; i++) {
+      if (used[i]) {
+        bytes += 16L + lists[i].length * 4L;
+      }
+    }
+    return bytes;
+  }
+
+  private int slot(long key) {
+    int mask = keys.length - 1;
+    int slot = (int) mix(key) & mask;
+    while (used[slot] && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    int[][] oldLists = lists;
+    int[] oldSizes = sizes;
+    boolean[] oldUsed = used;
+    keys = new long[capacity];
+    lists = new int[capacity][];
+    sizes = new int[capacity];
+    used = new boolean[capacity];
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldUsed[i]) {
+        int slot = slot(oldKeys[i]);
+        used[slot] = true;
+        keys[slot] = oldKeys[i];
+        lists[slot] = oldLists[i];
+        sizes[slot] = oldSizes[i];
+      }
+    }
+  }
+
+  private static long mix(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    return key;
+  }
+}
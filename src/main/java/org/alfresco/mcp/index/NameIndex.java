@@ -0,0 +1,423 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.alfresco.mcp.analytics.Hashing;
+
+/**
+ * In-memory inverted index from node names to node ids and paths, answering exact, prefix and fuzzy
+ * name lookups. Names are matched case-insensitively. Fuzzy lookups rank names by the Dice
+ * coefficient of their character trigrams, so typos and partial names still match.
+ *
+ * <p>Documents are stored in parallel arrays and the postings in {@link LongPostings}, keyed by
+ * name hash, node id hash and packed trigram. Removed and replaced documents are only marked dead
+ * and are compacted away once they outnumber the live ones. The index is safe for concurrent use.
+ */
+public class NameIndex {
+
+  /** A node found by a lookup; {@code path} is the path of its parent folder. */
+  public record Match(String nodeId, String name, String path, double score) {}
+
+  private static final int MIN_COMPACTION = 1024;
+  private static final int MIN_COMMON_POSTINGS = 256;
+  private static final int COMMON_FRACTION = 50;
+
+  private static final Comparator<Match> BY_SCORE =
+      Comparator.comparingDouble(Match::score)
+          .reversed()
+          .thenComparingInt(match -> match.name().length())
+          .thenComparing(Match::name);
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final ThreadLocal<int[]> scratch = ThreadLocal.withInitial(() -> new int[0]);
+
+  private String[] nodeIds;
+  private String[] names;
+  private String[] lowerNames;
+  private String[] paths;
+  private int[] trigramCounts;
+  private BitSet live;
+  private int documents;
+  private int liveDocuments;
+
+  private LongPostings byNodeId;
+  private LongPostings byName;
+  private LongPostings byTrigram;
+
+  public NameIndex() {
+    reset(1024);
+  }
+
+  /** Adds a node, or replaces its entry if its name or path changed. */
+  public void put(String nodeId, String name, String path) {
+    lock.writeLock().lock();
+    try {
+      int existing = find(nodeId);
+      if (existing >= 0) {
+        if (names[existing].equals(name) && equalsOrNull(paths[existing], path)) {
+          return;
+        }
+        kill(existing);
+      }
+      add(nodeId, name, path);
+      if (documents - liveDocuments > Math.max(MIN_COMPACTION, liveDocuments)) {
+        compact();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Removes a node; returns whether it was indexed. */
+  public boolean remove(String nodeId) {
+    lock.writeLock().lock();
+    try {
+      int existing = find(nodeId);
+      if (existing < 0) {
+        return false;
+      }
+      kill(existing);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Moves every node in the folder {@code from} or below it to the same place below {@code to}, or
+   * removes them if {@code to} is {@code null}, for a folder that was moved, renamed or deleted.
+   * Returns the number of nodes affected.
+   */
+  public int movePath(String from, String to) {
+    String below = from + "/";
+    lock.writeLock().lock();
+    try {
+      List<Integer> affected = new ArrayList<>();
+      for (int document = live.nextSetBit(0);
+          document >= 0;
+          document = live.nextSetBit(document + 1)) {
+        String path = paths[document];
+        if (path != null && (path.equals(from) || path.startsWith(below))) {
+          affected.add(document);
+        }
+      }
+      for (int document : affected) {
+        kill(document);
+        if (to != null) {
+          add(nodeIds[document], names[document], to + paths[document].substring(from.length()));
+        }
+      }
+      if (documents - liveDocuments > Math.max(MIN_COMPACTION, liveDocuments)) {
+        compact();
+      }
+      return affected.size();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Nodes whose name equals {@code name}, ignoring case. */
+  public List<Match> exact(String name, int limit) {
+    String lower = lower(name);
+    lock.readLock().lock();
+    try {
+      List<Match> matches = new ArrayList<>();
+      byName.forEach(
+          Hashing.hash64(lower),
+          document -> {
+            if (matches.size() < limit
+                && live.get(document)
+                && lowerNames[document].equals(lower)) {
+              matches.add(match(document, 1.0));
+            }
+          });
+      return matches;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Nodes whose name starts with {@code prefix}, ignoring case, shortest names first. */
+  public List<Match> prefix(String prefix, int limit) {
+    String lower = lower(prefix);
+    lock.readLock().lock();
+    try {
+      List<Match> matches = new ArrayList<>();
+      long[] trigrams = trigrams(" " + lower);
+      if (trigrams.length == 0) {
+        for (int document = live.nextSetBit(0);
+            document >= 0;
+            document = live.nextSetBit(document + 1)) {
+          if (lowerNames[document].startsWith(lower)) {
+            matches.add(match(document, 1.0));
+          }
+        }
+      } else {
+        for (int document : candidates(trigrams, trigrams.length)) {
+          if (lowerNames[document].startsWith(lower)) {
+            matches.add(match(document, 1.0));
+          }
+        }
+      }
+      matches.sort(BY_SCORE);
+      return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Nodes whose name is similar to {@code name}, best first. The score is the Dice coefficient of
+   * the trigram sets of both names, from 0 (nothing in common) to 1 (same trigrams). Candidates are
+   * found through the query's rarer trigrams only, since trigrams shared by a large part of the
+   * repository (such as those of {@code .pdf}) select nearly everything; every candidate is then
+   * scored on all trigrams.
+   */
+  public List<Match> fuzzy(String name, int limit, double minSimilarity) {
+    long[] trigrams = trigrams(" " + lower(name) + " ");
+    if (trigrams.length == 0) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      int commonPostings = Math.max(MIN_COMMON_POSTINGS, documents / COMMON_FRACTION);
+      long[] selective =
+          Arrays.stream(trigrams).filter(t -> byTrigram.count(t) <= commonPostings).toArray();
+      if (selective.length == 0) {
+        selective = trigrams;
+      }
+      int skipped = trigrams.length - selective.length;
+      int[] counts = counts();
+      List<Match> matches = new ArrayList<>();
+      for (int document : touch(selective, counts)) {
+        int shared = counts[document];
+        counts[document] = 0;
+        int total = trigrams.length + trigramCounts[document];
+        if (!live.get(document) || 2.0 * (shared + skipped) / total < minSimilarity) {
+          continue;
+        }
+        if (skipped > 0) {
+          shared = intersection(trigrams, trigrams(" " + lowerNames[document] + " "));
+        }
+        double score = 2.0 * shared / total;
+        if (score >= minSimilarity) {
+          matches.add(match(document, score));
+        }
+      }
+      matches.sort(BY_SCORE);
+      return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return liveDocuments;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** A rough estimate of the heap used by the index, for the server statistics. */
+  public long estimatedBytes() {
+    lock.readLock().lock();
+    try {
+      long bytes = byNodeId.estimatedBytes() + byName.estimatedBytes() + byTrigram.estimatedBytes();
+      bytes += nodeIds.length * (4L * 4 + 4);
+      for (int document = 0; document < documents; document++) {
+        bytes += 3 * 40L + 2L * (nodeIds[document].length() + 2 * names[document].length());
+        bytes += paths[document] == null ? 0 : 40L + paths[document].length();
+      }
+      return bytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Live documents containing at least {@code required} of the given distinct trigrams. */
+  private int[] candidates(long[] trigrams, int required) {
+    int[] counts = counts();
+    int[] touched = touch(trigrams, counts);
+    int found = 0;
+    for (int document : touched) {
+      if (counts[document] >= required && live.get(document)) {
+        touched[found++] = document;
+      }
+      counts[document] = 0;
+    }
+    return Arrays.copyOf(touched, found);
+  }
+
+  /** Counts per document how many of the trigrams it contains; returns the documents counted. */
+  private int[] touch(long[] trigrams, int[] counts) {
+    int total = 0;
+    for (long trigram : trigrams) {
+      total += byTrigram.count(trigram);
+    }
+    int[] touched = new int[Math.min(total, documents)];
+    int[] size = {0};
+    for (long trigram : trigrams) {
+      byTrigram.forEach(
+          trigram,
+          document -> {
+            if (counts[document]++ == 0) {
+              touched[size[0]++] = document;
+            }
+          });
+    }
+    return Arrays.copyOf(touched, size[0]);
+  }
+
+  /** A zeroed per-thread counter array with a slot for every document. */
+  private int[] counts() {
+    int[] counts = scratch.get();
+    if (counts.length < documents) {
+      counts = new int[nodeIds.length];
+      scratch.set(counts);
+    }
+    return counts;
+  }
+
+  private int find(String nodeId) {
+    int[] found = {-1};
+    byNodeId.forEach(
+        Hashing.hash64(nodeId),
+        document -> {
+          if (live.get(document) && nodeIds[document].equals(nodeId)) {
+            found[0] = document;
+          }
+        });
+    return found[0];
+  }
+
+  private void add(String nodeId, String name, String path) {
+    if (documents == nodeIds.length) {
+      int capacity = nodeIds.length * 2;
+      nodeIds = Arrays.copyOf(nodeIds, capacity);
+      names = Arrays.copyOf(names, capacity);
+      lowerNames = Arrays.copyOf(lowerNames, capacity);
+      paths = Arrays.copyOf(paths, capacity);
+      trigramCounts = Arrays.copyOf(trigramCounts, capacity);
+    }
+    int document = documents++;
+    String lower = lower(name);
+    long[] trigrams = trigrams(" " + lower + " ");
+    nodeIds[document] = nodeId;
+    names[document] = name;
+    lowerNames[document] = lower;
+    paths[document] = path;
+    trigramCounts[document] = trigrams.length;
+    live.set(document);
+    liveDocuments++;
+    byNodeId.add(Hashing.hash64(nodeId), document);
+    byName.add(Hashing.hash64(lower), document);
+    for (long trigram : trigrams) {
+      byTrigram.add(trigram, document);
+    }
+  }
+
+  private void kill(int document) {
+    live.clear(document);
+    liveDocuments--;
+  }
+
+  /** Rebuilds the arrays and postings from the live documents only. */
+  private void compact() {
+    String[] oldNodeIds = nodeIds;
+    String[] oldNames = names;
+    String[] oldPaths = paths;
+    BitSet oldLive = live;
+    reset(Math.max(1024, liveDocuments * 2));
+    for (int document = oldLive.nextSetBit(0);
+        document >= 0;
+        document = oldLive.nextSetBit(document + 1)) {
+      add(oldNodeIds[document], oldNames[document], oldPaths[document]);
+    }
+  }
+
+  private void reset(int capacity) {
+    nodeIds = new String[capacity];
+    names = new String[capacity];
+    lowerNames = new String[capacity];
+    paths = new String[capacity];
+    trigramCounts = new int[capacity];
+    live = new BitSet(capacity);
+    documents = 0;
+    liveDocuments = 0;
+    byNodeId = new LongPostings(capacity);
+    byName = new LongPostings(capacity);
+    byTrigram = new LongPostings(capacity * 4);
+  }
+
+  private Match match(int document, double score) {
+    return new Match(nodeIds[document], names[document], paths[document], score);
+  }
+
+  /** The distinct trigrams of {@code text}, each packed into the low 48 bits of a long. */
+  static long[] trigrams(String text) {
+    if (text.length() < 3) {
+      return new long[0];
+    }
+    long[] trigrams = new long[text.length() - 2];
+    for (int i = 0; i < trigrams.length; i++) {
+      trigrams[i] =
+          ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+    Arrays.sort(trigrams);
+    int unique = 0;
+    for (int i = 0; i < trigrams.length; i++) {
+      if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+        trigrams[unique++] = trigrams[i];
+      }
+    }
+    return Arrays.copyOf(trigrams, unique);
+  }
+
+  /** The number of values two sorted arrays have in common. */
+  private static int intersection(long[] a, long[] b) {
+    int common = 0;
+    for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+      if (a[i] == b[j]) {
+        common++;
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return common;
+  }
+
+  private static String lower(String value) {
+    return value.toLowerCase(Locale.ROOT);
+  }
+
+  private static boolean equalsOrNull(String a, String b) {
+    return a == null ? b == null : a.equals(b);
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.logging;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import org.alfresco.core.model.AuditAppPaging;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.core.model.NodeChildAssociationPaging;
+import org.alfresco.core.model.NodePaging;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Log argument that defers rendering of a payload until the logger formats the message, and then
+ * renders at most {@code maxLength} characters of it. Payloads are written as JSON into a buffer
+ * that stops accepting output at {@code maxLength}, which abandons the serialization, so a large
+ * payload costs no more to log than a small one. Response entities are unwrapped, and collections,
+ * including the entries of Alfresco paging responses, are summarised with their size.
+ */
+final class AbbreviatedPayload {
+
+  private static final ObjectMapper MAPPER =
+      JsonMapper.builder()
+          .findAndAddModules()
+          .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .serializationInclusion(JsonInclude.Include.NON_NULL)
+          .build();
+
+  private final Object payload;
+  private final int maxLength;
+
+  AbbreviatedPayload(Object payload, int maxLength) {
+    this.payload = payload;
+    this.maxLength = maxLength;
+  }
+
+  @Override
+  public String toString() {
+    Object target = unwrap(payload);
+    BoundedWriter out = new BoundedWriter(maxLength);
+    try {
+      if (target instanceof Collection<?> collection) {
+        out.write("[size=" + collection.size() + "] [");
+        boolean first = true;
+        for (Object element : collection) {
+          if (!first) {
+            out.write(", ");
+          }
+          first = false;
+          render(element, out);
+        }
+        out.write("]");
+      } else {
+        render(target, out);
+      }
+    } catch (Truncated e) {
+      return out.text() + "... (truncated at " + maxLength + " chars)";
+    }
+    return out.text();
+  }
+
+  /** Writes a value as JSON, or as its string form if it cannot be serialized. */
+  private static void render(Object value, BoundedWriter out) throws Truncated {
+    if (value == null
+        || value instanceof CharSequence
+        || value instanceof Number
+        || value instanceof Boolean) {
+      out.write(String.valueOf(value));
+      return;
+    }
+    int mark = out.length();
+    try {
+      MAPPER.writeValue(out, value);
+    } catch (Truncated e) {
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      out.reset(mark);
+      out.write(String.valueOf(value));
+    }
+  }
+
+  private static Object unwrap(Object payload) {
+    Object body = payload instanceof ResponseEntity<?> entity ? entity.getBody() : payload;
+    if (body instanceof NodePaging paging && paging.getList() != null) {
+      return paging.getList().getEntries();
+    }
+    if (body instanceof NodeChildAssociationPaging paging && paging.getList() != null) {
+      return paging.getList().getEntries();
+    }
+    if (body instanceof AuditEntryPaging paging && paging.getList() != null) {
+      return paging.getList().getEntries();
+    }
+    if (body instanceof AuditAppPaging paging && paging.getList() != null) {
+      return paging.getList().getEntries();
+    }
+    return body;
+  }
+
+  /** Collects up to {@code limit} characters and fails the write that goes beyond them. */
+  private static final class BoundedWriter extends Writer {
+
+    private final StringBuilder text;
+    private final int limit;
+
+    private BoundedWriter(int limit) {
+      this.text = new StringBuilder(Math.min(limit, 256) + 32);
+      this.limit = limit;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws Truncated {
+      int room = limit - text.length();
+      if (length > room) {
+        text.append(chars, offset, Math.max(room, 0));
+        throw new Truncated();
+      }
+      text.append(chars, offset, length);
+    }
+
+    @Override
+    public void write(String string) throws Truncated {
+      int room = limit - text.length();
+      if (string.length() > room) {
+        text.append(string, 0, Math.max(room, 0));
+        throw new Truncated();
+      }
+      text.append(string);
+    }
+
+    int length() {
+      return text.length();
+    }
+
+    void reset(int length) {
+      text.setLength(length);
+    }
+
+    String text() {
+      return text.toString();
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+  }
+
+  /** Raised by {@link BoundedWriter} to abandon rendering; it carries no stack trace. */
+  private static final class Truncated extends IOException {
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+}
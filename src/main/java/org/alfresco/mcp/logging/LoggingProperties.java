@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.logging;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls how tool payloads are written to the log.
+ *
+ * @param maxPayloadLength the maximum number of characters of a payload that is rendered
+ * @param defaultSampleRate the fraction (0.0 - 1.0) of tool calls whose payloads are logged
+ * @param sampleRates per tool overrides of the sample rate, keyed by tool name
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.logging")
+public record LoggingProperties(
+    @DefaultValue("2048") int maxPayloadLength,
+    @DefaultValue("1.0") double defaultSampleRate,
+    Map<String, Double> sampleRates) {
+
+  public LoggingProperties {
+    sampleRates = sampleRates == null ? Map.of() : Map.copyOf(sampleRates);
+  }
+
+  public double sampleRate(String toolName) {
+    return sampleRates.getOrDefault(toolName, defaultSampleRate);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.alfresco.mcp.execution.CallContext;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes (potentially very large) response payloads to the log at DEBUG level. Payloads are only
+ * rendered when DEBUG is enabled for the calling logger and the tool call was sampled, and are
+ * truncated to {@link LoggingProperties#maxPayloadLength()} characters. Whether a tool call is
+ * sampled is decided once, when the call starts, so that its input, intermediate responses and
+ * result are either all logged or not at all.
+ */
+@Component
+public class PayloadLogger {
+
+  private static final ThreadLocal<Boolean> SAMPLED = new ThreadLocal<>();
+
+  private final LoggingProperties properties;
+
+  public PayloadLogger(LoggingProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Decides whether the payloads of the tool call about to run on the current thread are logged,
+   * and keeps that decision until the returned scope is closed.
+   */
+  public Scope sample(String toolName) {
+    return bind(decide(toolName));
+  }
+
+  /**
+   * Applies a sampling decision taken earlier with {@link #decide(String)} to the current thread,
+   * for asynchronous tool calls whose payloads are logged from different threads.
+   */
+  public Scope bind(boolean sampled) {
+    Boolean previous = SAMPLED.get();
+    SAMPLED.set(sampled);
+    return () -> {
+      if (previous == null) {
+        SAMPLED.remove();
+      } else {
+        SAMPLED.set(previous);
+      }
+    };
+  }
+
+  /** Decides whether the payloads of a call of the given tool are logged. */
+  public boolean decide(String toolName) {
+    double rate =
+        toolName == null ? properties.defaultSampleRate() : properties.sampleRate(toolName);
+    return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  public void debug(Logger log, String message, Object payload) {
+    if (log.isDebugEnabled() && isSampled()) {
+      log.debug(message, abbreviate(payload));
+    }
+  }
+
+  public Object abbreviate(Object payload) {
+    return new AbbreviatedPayload(payload, properties.maxPayloadLength());
+  }
+
+  private boolean isSampled() {
+    Boolean sampled = SAMPLED.get();
+    if (sampled != null) {
+      return sampled;
+    }
+    CallContext context = CallContext.current();
+    return decide(context == null ? null : context.getToolName());
+  }
+
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.model;
+
+import java.util.List;
+import java.util.Map;
+import org.alfresco.mcp.analytics.HeavyHitters.HeavyHitter;
+
+/**
+ * Approximate statistics over a range of audit entries.
+ *
+ * @param entries the number of entries analysed
+ * @param firstId the id of the first entry analysed, or {@code null} if none
+ * @param lastId the id of the last entry analysed, or {@code null} if none
+ * @param complete whether all matching entries were analysed
+ * @param distinctUsers the estimated number of distinct users
+ * @param distinctNodes the estimated number of distinct nodes, identified by their audited path
+ * @param topUsers the most active users
+ * @param topActions the most frequent actions
+ * @param topNodes the most frequently audited nodes
+ * @param interEventMillis quantiles of the time between consecutive entries, keyed p50, p90, ...
+ */
+public record AuditAnalytics(
+    long entries,
+    Long firstId,
+    Long lastId,
+    boolean complete,
+    Cardinality distinctUsers,
+    Cardinality distinctNodes,
+    List<HeavyHitter> topUsers,
+    List<HeavyHitter> topActions,
+    List<HeavyHitter> topNodes,
+    Map<String, Quantile> interEventMillis) {
+
+  /**
+   * @param estimate the estimated number of distinct values
+   * @param relativeStandardError the relative standard error of the estimate
+   */
+  public record Cardinality(long estimate, double relativeStandardError) {}
+
+  /**
+   * @param estimate the estimated value at the quantile
+   * @param rankError the approximate bound on the rank error, as a fraction of all values
+   */
+  public record Quantile(double estimate, double rankError) {}
+}
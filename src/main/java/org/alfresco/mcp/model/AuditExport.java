@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.model;
+
+/**
+ * Summary of an audit export. The entries themselves are in {@code file}, one JSON object per line.
+ *
+ * @param file the absolute path of the export file
+ * @param rows the number of entries written by this call
+ * @param bytes the size of the export file in bytes
+ * @param firstId the id of the first entry written by this call, or {@code null} if none
+ * @param lastId the id of the last entry exported so far, or {@code null} if nothing has been
+ *     exported; pass it as the resume id to continue
+ * @param complete whether all matching entries have been exported
+ */
+public record AuditExport(
+    String file, long rows, long bytes, Long firstId, Long lastId, boolean complete) {}
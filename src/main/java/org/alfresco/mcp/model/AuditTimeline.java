@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.model;
+
+import java.util.List;
+import java.util.Map;
+import org.alfresco.core.model.AuditEntry;
+
+/**
+ * Audit entries of several nodes merged into one timeline, oldest first.
+ *
+ * @param events the audit entries, each tagged with the node it belongs to
+ * @param nodes the number of nodes whose audit entries were retrieved
+ * @param failures the nodes whose audit entries could not be retrieved, with the reason
+ * @param truncated whether older events were dropped to respect the total limit
+ */
+public record AuditTimeline(
+    List<Event> events, int nodes, Map<String, String> failures, boolean truncated) {
+
+  /**
+   * @param nodeId the node the audit entry belongs to
+   * @param entry the audit entry
+   */
+  public record Event(String nodeId, AuditEntry entry) {}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.model;
+
+import java.util.List;
+import java.util.Map;
+import org.alfresco.core.model.AuditEntry;
+import org.alfresco.core.model.Node;
+import org.alfresco.core.model.NodeAssociation;
+import org.alfresco.core.model.PermissionsInfo;
+import org.alfresco.core.model.Version;
+
+/**
+ * Everything needed to understand a single node, gathered in one call. Parts that could not be
+ * retrieved are {@code null} and listed in {@code failures}.
+ *
+ * @param node the node metadata, including its path
+ * @param parents the parents of the node
+ * @param versions the version history of the node, newest first
+ * @param permissions the permissions set on and inherited by the node
+ * @param auditEntries the most recent audit entries of the node, newest first
+ * @param failures the parts that could not be retrieved, with the reason
+ */
+public record NodeDossier(
+    Node node,
+    List<NodeAssociation> parents,
+    List<Version> versions,
+    PermissionsInfo permissions,
+    List<AuditEntry> auditEntries,
+    Map<String, String> failures) {}
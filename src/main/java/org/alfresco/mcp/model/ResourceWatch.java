@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.model;
+
+/**
+ * A watch on an audit application or node, exposed as an MCP resource. A {@code
+ * notifications/resources/updated} notification is sent for {@code uri} whenever it changes.
+ *
+ * @param uri the URI of the resource to read for the latest state
+ * @param watchers the number of watches on the resource, all served by the same poll
+ * @param lastId the id of the last audit entry seen for an audit application, or {@code null} for a
+ *     node
+ */
+public record ResourceWatch(String uri, int watchers, Long lastId) {}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.passthrough;
+
+import static org.alfresco.mcp.http.AlfrescoEndpoint.encode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.alfresco.mcp.http.AlfrescoEndpoint;
+import org.alfresco.mcp.service.StatisticsProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client for the list endpoints of the Alfresco REST API that hands the response body to the {@link
+ * PagingProjector} as it arrives, instead of binding it to the SDK model classes.
+ */
+@Component
+public class AlfrescoStreamingClient implements StatisticsProvider {
+
+  private final AlfrescoEndpoint endpoint;
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong entries = new AtomicLong();
+  private final AtomicLong charsWritten = new AtomicLong();
+
+  public AlfrescoStreamingClient(AlfrescoEndpoint endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  /** The outcome of a streamed list request. */
+  public record Result(int status, PagingProjector.Projection projection) {
+
+    public boolean isSuccessful() {
+      return status / 100 == 2;
+    }
+  }
+
+  public Result listAuditEntriesForAuditApp(
+      String appId, int maxItems, String where, Set<String> fields) {
+    Map<String, String> query = new LinkedHashMap<>();
+    query.put("skipCount", "0");
+    query.put("omitTotalItems", "false");
+    query.put("maxItems", Integer.toString(maxItems));
+    query.put("where", where);
+    query.put("include", "values");
+    return list("/audit-applications/" + encode(appId) + "/audit-entries", query, fields);
+  }
+
+  public Result listAuditEntriesForNode(String nodeId, int maxItems, Set<String> fields) {
+    Map<String, String> query = new LinkedHashMap<>();
+    query.put("skipCount", "0");
+    query.put("maxItems", Integer.toString(maxItems));
+    query.put("include", "values");
+    return list("/nodes/" + encode(nodeId) + "/audit-entries", query, fields);
+  }
+
+  public Result findNodes(String term, int maxItems, String nodeType, Set<String> fields) {
+    Map<String, String> query = new LinkedHashMap<>();
+    query.put("term", term);
+    query.put("rootNodeId", "-root-");
+    query.put("skipCount", "0");
+    query.put("maxItems", Integer.toString(maxItems));
+    query.put("nodeType", nodeType);
+    return list("/queries/nodes", query, fields);
+  }
+
+  private Result list(String path, Map<String, String> query, Set<String> fields) {
+    HttpRequest request = endpoint.get(path, query);
+
+    requests.incrementAndGet();
+    try {
+      HttpResponse<InputStream> response =
+          endpoint.httpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+      try (InputStream body = response.body()) {
+        if (response.statusCode() / 100 != 2) {
+          failed.incrementAndGet();
+          return new Result(response.statusCode(), null);
+        }
+        PagingProjector.Projection projection = PagingProjector.project(body, fields);
+        entries.addAndGet(projection.count());
+        charsWritten.addAndGet(projection.entries().length());
+        return new Result(response.statusCode(), projection);
+      }
+    } catch (IOException e) {
+      failed.incrementAndGet();
+      throw new UncheckedIOException("Request to " + path + " failed", e);
+    } catch (InterruptedException e) {
+      failed.incrementAndGet();
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted during request to " + path, e);
+    }
+  }
+
+  @Override
+  public String getStatisticsName() {
+    return "passThroughCalls";
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("requests", requests.get());
+    statistics.put("failed", failed.get());
+    statistics.put("entries", entries.get());
+    statistics.put("charsWritten", charsWritten.get());
+    return statistics;
+  }
+}
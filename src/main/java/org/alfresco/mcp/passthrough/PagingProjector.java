@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.passthrough;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.Set;
+
+/**
+ * Copies the entries of an Alfresco REST API list response into a JSON array with a streaming
+ * parser. The {@code entry} wrappers and the pagination are dropped, and optionally every entry
+ * field not in a projection. No model objects are created and only the output is held in memory.
+ */
+public final class PagingProjector {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private PagingProjector() {}
+
+  /** The projected entries and their number. */
+  public record Projection(RawJson entries, int count) {}
+
+  /**
+   * Projects the entries of a list response.
+   *
+   * @param body the upstream response body; it is read to the end but not closed
+   * @param fields the entry fields to keep, or {@code null} to keep all of them
+   */
+  public static Projection project(InputStream body, Set<String> fields) throws IOException {
+    StringWriter out = new StringWriter(8192);
+    int count;
+    try (JsonParser parser = JSON_FACTORY.createParser(body);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+      generator.writeStartArray();
+      count = copyEntries(parser, generator, fields);
+      generator.writeEndArray();
+    }
+    return new Projection(new RawJson(out.toString()), count);
+  }
+
+  private static int copyEntries(JsonParser parser, JsonGenerator generator, Set<String> fields)
+      throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("Expected a JSON object");
+    }
+    int count = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if ("list".equals(name) && value == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String listField = parser.currentName();
+          JsonToken listValue = parser.nextToken();
+          if ("entries".equals(listField) && listValue == JsonToken.START_ARRAY) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+              count += copyEntry(parser, generator, fields);
+            }
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return count;
+  }
+
+  /** Copies the {@code entry} of one element of the entries array, positioned on its start. */
+  private static int copyEntry(JsonParser parser, JsonGenerator generator, Set<String> fields)
+      throws IOException {
+    int copied = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if ("entry".equals(name) && value == JsonToken.START_OBJECT) {
+        if (fields == null) {
+          generator.copyCurrentStructure(parser);
+        } else {
+          generator.writeStartObject();
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (fields.contains(field)) {
+              generator.writeFieldName(field);
+              generator.copyCurrentStructure(parser);
+            } else {
+              parser.skipChildren();
+            }
+          }
+          generator.writeEndObject();
+        }
+        copied = 1;
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return copied;
+  }
+}
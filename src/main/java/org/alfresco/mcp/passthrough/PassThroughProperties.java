@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.passthrough;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls the streaming pass-through path of list-returning tools.
+ *
+ * @param enabled whether list-returning tools stream upstream responses into their result instead
+ *     of binding them to the SDK model classes
+ * @param auditEntryFields the fields of each audit entry to keep; all fields when empty
+ * @param nodeFields the fields of each node to keep; all fields when empty
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.passthrough")
+public record PassThroughProperties(
+    @DefaultValue("false") boolean enabled,
+    List<String> auditEntryFields,
+    List<String> nodeFields) {
+
+  public Set<String> auditEntryProjection() {
+    return auditEntryFields == null || auditEntryFields.isEmpty()
+        ? null
+        : Set.copyOf(auditEntryFields);
+  }
+
+  public Set<String> nodeProjection() {
+    return nodeFields == null || nodeFields.isEmpty() ? null : Set.copyOf(nodeFields);
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.prefetch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.alfresco.mcp.cache.CacheProperties;
+import org.alfresco.mcp.cache.ToolResultCache;
+import org.alfresco.mcp.service.NodeService;
+import org.alfresco.mcp.service.StatisticsProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the {@link ToolResultCache} entries of {@code get_node_entry_by_id} for the node ids that
+ * appear in the results of query and audit tools, since agents almost always look those nodes up
+ * next. Results are scanned on the prefetch threads, never on the thread of the tool call, and
+ * prefetching stays within a budget of upstream requests per minute. A prefetched node counts as a
+ * hit when it is requested before its cache entry expires, and as wasted otherwise.
+ */
+@Component
+public class NodePrefetcher implements StatisticsProvider, DisposableBean {
+
+  public static final String TARGET_TOOL = "get_node_entry_by_id";
+
+  private static final Logger log = LoggerFactory.getLogger(NodePrefetcher.class);
+
+  private static final Pattern NODE_ID =
+      Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+  private final PrefetchProperties properties;
+  private final CacheProperties cacheProperties;
+  private final ToolResultCache cache;
+  private final ObjectMapper objectMapper;
+  private final ToolCallback nodeEntryCallback;
+  private final ThreadPoolExecutor executor;
+
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+  private final Map<String, Long> prefetched = new LinkedHashMap<>();
+
+  private final RequestBudget budget;
+
+  private final AtomicLong scheduled = new AtomicLong();
+  private final AtomicLong fetched = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong skippedCached = new AtomicLong();
+  private final AtomicLong skippedOverBudget = new AtomicLong();
+  private final AtomicLong droppedResults = new AtomicLong();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong wasted = new AtomicLong();
+
+  public NodePrefetcher(
+      PrefetchProperties properties,
+      CacheProperties cacheProperties,
+      ToolResultCache cache,
+      ObjectMapper objectMapper,
+      NodeService nodeService) {
+    this.properties = properties;
+    this.cacheProperties = cacheProperties;
+    this.cache = cache;
+    this.objectMapper = objectMapper;
+    this.nodeEntryCallback =
+        Arrays.stream(
+                MethodToolCallbackProvider.builder()
+                    .toolObjects(nodeService)
+                    .build()
+                    .getToolCallbacks())
+            .filter(toolCallback -> TARGET_TOOL.equals(toolCallback.getToolDefinition().name()))
+            .findFirst()
+            .orElseThrow();
+    this.budget = new RequestBudget(properties.requestsPerMinute());
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            Math.max(1, properties.threads()),
+            Math.max(1, properties.threads()),
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.queueSize())),
+            runnable -> {
+              Thread thread = new Thread(runnable, "prefetch-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /** Whether calls to the given tool take part in prefetching, as a source or as the target. */
+  public boolean isObserved(String toolName) {
+    return properties.enabled()
+        && cache.isCached(TARGET_TOOL)
+        && (TARGET_TOOL.equals(toolName) || properties.sourceTools().contains(toolName));
+  }
+
+  /**
+   * Called with the result of every observed tool call. Source tool results are handed to the
+   * prefetch threads as they are; when those are saturated the result is not scanned at all.
+   */
+  public void afterCall(String toolName, String toolInput, String result) {
+    if (TARGET_TOOL.equals(toolName)) {
+      recordDemand(toolInput);
+    } else if (result != null) {
+      try {
+        executor.execute(() -> scan(result));
+      } catch (RejectedExecutionException e) {
+        droppedResults.incrementAndGet();
+      }
+    }
+  }
+
+  private void scan(String result) {
+    if (!isSuccess(result)) {
+      return;
+    }
+    expirePrefetched();
+    Set<String> nodeIds = new LinkedHashSet<>();
+    Matcher matcher = NODE_ID.matcher(result);
+    while (matcher.find() && nodeIds.size() < properties.maxIdsPerResult()) {
+      nodeIds.add(matcher.group());
+    }
+    for (String nodeId : nodeIds) {
+      String input = input(nodeId);
+      if (input == null || inFlight.contains(nodeId) || cache.contains(TARGET_TOOL, input)) {
+        skippedCached.incrementAndGet();
+        continue;
+      }
+      if (!budget.tryAcquire()) {
+        skippedOverBudget.incrementAndGet();
+        continue;
+      }
+      inFlight.add(nodeId);
+      try {
+        executor.execute(() -> fetch(nodeId, input));
+        scheduled.incrementAndGet();
+      } catch (RejectedExecutionException e) {
+        inFlight.remove(nodeId);
+        skippedOverBudget.incrementAndGet();
+      }
+    }
+  }
+
+  private void fetch(String nodeId, String input) {
+    try {
+      String result = nodeEntryCallback.call(input);
+      if (isSuccess(result)) {
+        if (!cache.contains(TARGET_TOOL, input)) {
+          cache.put(TARGET_TOOL, input, result);
+          synchronized (prefetched) {
+            prefetched.put(nodeId, System.currentTimeMillis());
+          }
+        }
+        fetched.incrementAndGet();
+      } else {
+        failed.incrementAndGet();
+      }
+    } catch (RuntimeException e) {
+      failed.incrementAndGet();
+      log.debug("Prefetch of node {} failed", nodeId, e);
+    } finally {
+      inFlight.remove(nodeId);
+    }
+  }
+
+  private void recordDemand(String toolInput) {
+    try {
+      String nodeId = objectMapper.readTree(toolInput).path("nodeId").asText(null);
+      if (nodeId == null) {
+        return;
+      }
+      synchronized (prefetched) {
+        if (prefetched.remove(nodeId) != null) {
+          hits.incrementAndGet();
+        }
+      }
+    } catch (JsonProcessingException e) {
+      // Not a node lookup we can attribute
+    }
+  }
+
+  /** Counts prefetched nodes whose cache entry expired without being requested as wasted. */
+  private void expirePrefetched() {
+    long ttl = cacheProperties.ttl().get(TARGET_TOOL).toMillis();
+    long expiredBefore = System.currentTimeMillis() - ttl;
+    synchronized (prefetched) {
+      Iterator<Long> fetchedAt = prefetched.values().iterator();
+      while (fetchedAt.hasNext()) {
+        long at = fetchedAt.next();
+        if (at > expiredBefore && prefetched.size() <= cacheProperties.maxEntries()) {
+          break;
+        }
+        fetchedAt.remove();
+        wasted.incrementAndGet();
+      }
+    }
+  }
+
+  private String input(String nodeId) {
+    try {
+      return objectMapper.writeValueAsString(Map.of("nodeId", nodeId));
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+
+  private boolean isSuccess(String result) {
+    try {
+      return objectMapper.readTree(result).path("success").asBoolean(false);
+    } catch (JsonProcessingException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public String getStatisticsName() {
+    return "prefetch";
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    if (properties.enabled() && cache.isCached(TARGET_TOOL)) {
+      expirePrefetched();
+    }
+    long hitCount = hits.get();
+    long wastedCount = wasted.get();
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("enabled", properties.enabled() && cache.isCached(TARGET_TOOL));
+    statistics.put("scheduled", scheduled.get());
+    statistics.put("fetched", fetched.get());
+    statistics.put("failed", failed.get());
+    statistics.put("skippedCached", skippedCached.get());
+    statistics.put("skippedOverBudget", skippedOverBudget.get());
+    statistics.put("droppedResults", droppedResults.get());
+    statistics.put("hits", hitCount);
+    statistics.put("wasted", wastedCount);
+    synchronized (prefetched) {
+      statistics.put("awaitingUse", prefetched.size());
+    }
+    long settled = hitCount + wastedCount;
+    statistics.put("hitRate", settled == 0 ? 0.0 : (double) hitCount / settled);
+    return statistics;
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.prefetch;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls speculative prefetching of nodes referenced by tool results.
+ *
+ * @param enabled whether nodes are prefetched; also requires {@code get_node_entry_by_id} to be
+ *     cached
+ * @param sourceTools the tools whose results are scanned for node ids
+ * @param maxIdsPerResult the maximum number of nodes prefetched for one tool result
+ * @param requestsPerMinute the budget of extra upstream requests prefetching may make
+ * @param threads the number of threads prefetching runs on
+ * @param queueSize the number of prefetches that may wait for a thread before new ones are dropped
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.prefetch")
+public record PrefetchProperties(
+    @DefaultValue("false") boolean enabled,
+    List<String> sourceTools,
+    @DefaultValue("10") int maxIdsPerResult,
+    @DefaultValue("120") int requestsPerMinute,
+    @DefaultValue("2") int threads,
+    @DefaultValue("100") int queueSize) {
+
+  public PrefetchProperties {
+    sourceTools = sourceTools == null ? List.of() : List.copyOf(sourceTools);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.prefetch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that allows a number of requests per minute. The bucket is refilled continuously, so
+ * fractions of a token earned between two requests are kept rather than rounded away.
+ */
+final class RequestBudget {
+
+  private static final double NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+  private final double perMinute;
+  private final LongSupplier nanoClock;
+
+  private double tokens;
+  private long refilledAt;
+
+  RequestBudget(int perMinute) {
+    this(perMinute, System::nanoTime);
+  }
+
+  RequestBudget(int perMinute, LongSupplier nanoClock) {
+    this.perMinute = Math.max(0, perMinute);
+    this.nanoClock = nanoClock;
+    this.tokens = this.perMinute;
+    this.refilledAt = nanoClock.getAsLong();
+  }
+
+  synchronized boolean tryAcquire() {
+    long now = nanoClock.getAsLong();
+    tokens = Math.min(perMinute, tokens + (now - refilledAt) * perMinute / NANOS_PER_MINUTE);
+    refilledAt = now;
+    if (tokens < 1) {
+      return false;
+    }
+    tokens--;
+    return true;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.scheduling;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls how tool calls are admitted for execution.
+ *
+ * @param enabled whether tool calls are scheduled through lanes at all
+ * @param defaultLane the lane of tools without an entry in {@code lanes}
+ * @param lanes the lane of each tool, keyed by tool name
+ * @param concurrency the number of calls each lane runs at once, keyed by lane name
+ * @param defaultConcurrency the concurrency of lanes without an entry in {@code concurrency}
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.scheduler")
+public record SchedulerProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("interactive") String defaultLane,
+    Map<String, String> lanes,
+    Map<String, Integer> concurrency,
+    @DefaultValue("8") int defaultConcurrency) {
+
+  public SchedulerProperties {
+    lanes = lanes == null ? Map.of() : Map.copyOf(lanes);
+    concurrency = concurrency == null ? Map.of() : Map.copyOf(concurrency);
+  }
+
+  public String lane(String toolName) {
+    return lanes.getOrDefault(toolName, defaultLane);
+  }
+
+  public int concurrency(String lane) {
+    return Math.max(1, concurrency.getOrDefault(lane, defaultConcurrency));
+  }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.alfresco.mcp.analytics.TDigest;
+import org.alfresco.mcp.execution.CallAbortedException;
+import org.alfresco.mcp.execution.CallContext;
+import org.alfresco.mcp.service.StatisticsProvider;
+import org.alfresco.mcp.tool.McpSessions;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Admits tool calls into lanes with their own concurrency quota, so that long scans in the bulk and
+ * background lanes cannot take the capacity interactive calls need. Within a lane, waiting calls
+ * are granted round robin across the sessions identified by {@link McpSessions}, so one client
+ * queueing many calls does not starve the others. A call waits at most until the deadline of its
+ * {@link CallContext}.
+ */
+@Component
+public class ToolScheduler implements StatisticsProvider {
+
+  private final SchedulerProperties properties;
+  private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+  public ToolScheduler(SchedulerProperties properties) {
+    this.properties = properties;
+  }
+
+  public boolean isEnabled() {
+    return properties.enabled();
+  }
+
+  /**
+   * Waits for a slot in the lane of the given tool.
+   *
+   * @return the permit to close once the call is finished
+   * @throws CallAbortedException if the call's deadline passes or it is cancelled while waiting
+   */
+  public Permit acquire(String toolName, ToolContext toolContext) {
+    Lane lane = lane(toolName);
+    lane.acquire(McpSessions.of(toolContext), CallContext.current());
+    return lane::release;
+  }
+
+  /**
+   * Waits for a slot in the lane of the given tool without blocking a thread, for the tools that
+   * run on the asynchronous server. The wait ends when the returned {@link Mono} is cancelled, for
+   * example by a timeout, and a slot granted to a cancelled subscriber is handed on.
+   *
+   * @param session the session key of the call, see {@link McpSessions}
+   */
+  public Mono<Permit> acquireAsync(String toolName, Object session) {
+    Lane lane = lane(toolName);
+    return Mono.create(sink -> lane.acquire(session, sink));
+  }
+
+  private Lane lane(String toolName) {
+    String laneName = properties.lane(toolName);
+    return lanes.computeIfAbsent(laneName, name -> new Lane(name, properties.concurrency(name)));
+  }
+
+  @Override
+  public String getStatisticsName() {
+    return "toolScheduler";
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new TreeMap<>();
+    lanes.forEach((name, lane) -> statistics.put(name, lane.statistics()));
+    return statistics;
+  }
+
+  /** A slot in a lane, released when the call finishes. */
+  public interface Permit extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  /** A queued call, woken through its condition or, if asynchronous, completed through its sink. */
+  private static final class Waiter {
+    private final Object session;
+    private final Condition granted;
+    private final MonoSink<Permit> sink;
+    private final long start;
+    private boolean admitted;
+
+    private Waiter(Object session, Condition granted, MonoSink<Permit> sink, long start) {
+      this.session = session;
+      this.granted = granted;
+      this.sink = sink;
+      this.start = start;
+    }
+  }
+
+  private static final class Lane {
+
+    private final String name;
+    private final int permits;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Object, ArrayDeque<Waiter>> queues = new HashMap<>();
+    private final ArrayDeque<Object> sessions = new ArrayDeque<>();
+    private final TDigest waitMillis = new TDigest(100);
+    private int running;
+    private int queued;
+    private long admitted;
+    private long aborted;
+    private double maxWaitMillis;
+
+    private Lane(String name, int permits) {
+      this.name = name;
+      this.permits = permits;
+    }
+
+    private void acquire(Object session, CallContext context) {
+      long start = System.nanoTime();
+      lock.lock();
+      try {
+        if (running < permits && sessions.isEmpty()) {
+          running++;
+          admitted(start);
+          return;
+        }
+        Waiter waiter = new Waiter(session, lock.newCondition(), null, start);
+        enqueue(waiter);
+        while (!waiter.admitted) {
+          if (context != null && (context.isCancelled() || context.isExpired())) {
+            abandon(waiter);
+            throw new CallAbortedException(
+                "Call to "
+                    + context.getToolName()
+                    + " gave up waiting in the "
+                    + name
+                    + " lane after "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                    + "ms");
+          }
+          try {
+            if (context == null) {
+              waiter.granted.await();
+            } else {
+              waiter.granted.awaitNanos(Math.max(1, context.remaining().toNanos()));
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!waiter.admitted) {
+              abandon(waiter);
+              throw new CallAbortedException("Interrupted while waiting in the " + name + " lane");
+            }
+          }
+        }
+        admitted(start);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Completes {@code sink} with a permit once a slot is free. The sink is completed outside the
+     * lock, since its subscriber may go on to run the tool call on the same thread.
+     */
+    private void acquire(Object session, MonoSink<Permit> sink) {
+      long start = System.nanoTime();
+      Waiter waiter = new Waiter(session, null, sink, start);
+      sink.onCancel(() -> cancel(waiter));
+      lock.lock();
+      try {
+        if (running < permits && sessions.isEmpty()) {
+          running++;
+          waiter.admitted = true;
+          admitted(start);
+        } else {
+          enqueue(waiter);
+        }
+      } finally {
+        lock.unlock();
+      }
+      if (waiter.admitted) {
+        sink.success(this::release);
+      }
+    }
+
+    /**
+     * Gives up the wait of an asynchronous call. A slot granted but not yet delivered to it is
+     * released; once delivered the permit is closed by the subscriber instead.
+     */
+    private void cancel(Waiter waiter) {
+      List<Waiter> ready = List.of();
+      lock.lock();
+      try {
+        if (waiter.admitted) {
+          running--;
+          ready = dispatch();
+        } else {
+          abandon(waiter);
+        }
+      } finally {
+        lock.unlock();
+      }
+      ready.forEach(next -> next.sink.success(this::release));
+    }
+
+    private void enqueue(Waiter waiter) {
+      queues
+          .computeIfAbsent(
+              waiter.session,
+              key -> {
+                sessions.addLast(key);
+                return new ArrayDeque<>();
+              })
+          .addLast(waiter);
+      queued++;
+    }
+
+    private void release() {
+      List<Waiter> ready;
+      lock.lock();
+      try {
+        running--;
+        ready = dispatch();
+      } finally {
+        lock.unlock();
+      }
+      ready.forEach(waiter -> waiter.sink.success(this::release));
+    }
+
+    /**
+     * Hands free slots to the next waiting call of each session in turn. Blocked calls are
+     * signalled; the admitted asynchronous calls are returned, to be completed outside the lock.
+     */
+    private List<Waiter> dispatch() {
+      List<Waiter> ready = new ArrayList<>();
+      while (running < permits && !sessions.isEmpty()) {
+        Object session = sessions.pollFirst();
+        ArrayDeque<Waiter> queue = queues.get(session);
+        Waiter waiter = queue.pollFirst();
+        if (queue.isEmpty()) {
+          queues.remove(session);
+        } else {
+          sessions.addLast(session);
+        }
+        queued--;
+        running++;
+        waiter.admitted = true;
+        if (waiter.sink == null) {
+          waiter.granted.signal();
+        } else {
+          admitted(waiter.start);
+          ready.add(waiter);
+        }
+      }
+      return ready;
+    }
+
+    private void abandon(Waiter waiter) {
+      ArrayDeque<Waiter> queue = queues.get(waiter.session);
+      if (queue != null && queue.remove(waiter)) {
+        queued--;
+        if (queue.isEmpty()) {
+          queues.remove(waiter.session);
+          sessions.remove(waiter.session);
+        }
+      }
+      aborted++;
+    }
+
+    private void admitted(long start) {
+      double waited = (System.nanoTime() - start) / 1e6;
+      admitted++;
+      waitMillis.add(waited);
+      maxWaitMillis = Math.max(maxWaitMillis, waited);
+    }
+
+    private Map<String, Object> statistics() {
+      lock.lock();
+      try {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("concurrency", permits);
+        statistics.put("running", running);
+        statistics.put("queued", queued);
+        statistics.put("waitingSessions", sessions.size());
+        statistics.put("admitted", admitted);
+        statistics.put("abortedWhileQueued", aborted);
+        if (waitMillis.count() > 0) {
+          statistics.put("queueWaitP50Ms", waitMillis.quantile(0.5));
+          statistics.put("queueWaitP95Ms", waitMillis.quantile(0.95));
+          statistics.put("queueWaitP99Ms", waitMillis.quantile(0.99));
+          statistics.put("queueWaitMaxMs", maxWaitMillis);
+        }
+        return statistics;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
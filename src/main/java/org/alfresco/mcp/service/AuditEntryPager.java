@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.model.AuditEntry;
+import org.alfresco.core.model.AuditEntryEntry;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Reads the audit entries of an audit application page by page, so that arbitrarily long ranges can
+ * be processed with only one page in memory.
+ *
+ * <p>Pages are selected by id ({@code id BETWEEN}, combined with the where clause if there is one),
+ * which keeps every request cheap and lets a read be resumed after the last id seen. Only a where
+ * clause that already restricts the id is paged by skip count instead, and entries up to the resume
+ * id are then skipped on the client.
+ */
+class AuditEntryPager {
+
+  private static final Pattern ID_RANGE =
+      Pattern.compile("\\bid\\s+BETWEEN\\b", Pattern.CASE_INSENSITIVE);
+
+  private final AuditApi auditApi;
+  private final UpstreamExecutor upstream;
+  private final String appId;
+  private final String where;
+  private final boolean pageById;
+  private final int pageSize;
+  private final boolean includeValues;
+
+  private long lastId;
+  private int skipCount;
+  private boolean exhausted;
+
+  AuditEntryPager(
+      AuditApi auditApi,
+      UpstreamExecutor upstream,
+      String appId,
+      String where,
+      long afterId,
+      int pageSize,
+      boolean includeValues) {
+    this.auditApi = auditApi;
+    this.upstream = upstream;
+    this.appId = appId;
+    this.where = where == null || where.isBlank() ? null : where.strip();
+    this.pageById = this.where == null || !ID_RANGE.matcher(this.where).find();
+    this.lastId = afterId;
+    this.pageSize = pageSize;
+    this.includeValues = includeValues;
+  }
+
+  boolean hasNext() {
+    return !exhausted;
+  }
+
+  /** The id of the last entry returned, or the resume id if no entry was returned yet. */
+  long lastId() {
+    return lastId;
+  }
+
+  List<AuditEntry> nextPage() {
+    if (exhausted) {
+      return List.of();
+    }
+
+    String pageWhere = pageById ? withIdRange(where, lastId) : where;
+    int pageSkipCount = pageById ? 0 : skipCount;
+    List<String> include = includeValues ? List.of("values") : null;
+
+    ResponseEntity<AuditEntryPaging> response =
+        upstream.call(
+            () ->
+                auditApi.listAuditEntriesForAuditApp(
+                    appId, pageSkipCount, Boolean.TRUE, null, pageSize, pageWhere, include, null));
+
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      throw new IllegalStateException(
+          "Error retrieving audit entries: " + response.getStatusCode());
+    }
+
+    AuditEntryPaging auditEntryPaging = response.getBody();
+    List<AuditEntryEntry> entries =
+        auditEntryPaging == null || auditEntryPaging.getList() == null
+            ? null
+            : auditEntryPaging.getList().getEntries();
+    if (entries == null || entries.isEmpty()) {
+      exhausted = true;
+      return List.of();
+    }
+
+    skipCount += entries.size();
+    exhausted = entries.size() < pageSize;
+
+    List<AuditEntry> page = new ArrayList<>(entries.size());
+    for (AuditEntryEntry entry : entries) {
+      AuditEntry auditEntry = entry.getEntry();
+      if (auditEntry == null || auditEntry.getId() == null) {
+        continue;
+      }
+      long id = auditEntry.getId();
+      if (id > lastId) {
+        page.add(auditEntry);
+        lastId = id;
+      }
+    }
+    return page;
+  }
+
+  /** Restricts a where clause to the ids after {@code afterId}. */
+  static String withIdRange(String where, long afterId) {
+    String range = "id BETWEEN ('" + (afterId + 1) + "', '" + Long.MAX_VALUE + "')";
+    if (where == null) {
+      return "(" + range + ")";
+    }
+    String condition = enclosed(where) ? where.substring(1, where.length() - 1).strip() : where;
+    return "(" + condition + " AND " + range + ")";
+  }
+
+  /** Whether the clause is wrapped in one pair of parentheses, as in {@code (a AND b)}. */
+  private static boolean enclosed(String clause) {
+    if (!clause.startsWith("(") || !clause.endsWith(")")) {
+      return false;
+    }
+    int depth = 0;
+    boolean quoted = false;
+    for (int i = 0; i < clause.length() - 1; i++) {
+      char c = clause.charAt(i);
+      if (c == '\'') {
+        quoted = !quoted;
+      } else if (!quoted && c == '(') {
+        depth++;
+      } else if (!quoted && c == ')' && --depth == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
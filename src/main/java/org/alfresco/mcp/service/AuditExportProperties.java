@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls the audit export tool.
+ *
+ * @param directory the directory export files are written to; exports cannot escape it
+ * @param pageSize the number of audit entries requested from Alfresco per call
+ * @param bufferSize the size in bytes of the write buffer in front of the compressor
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.export")
+public record AuditExportProperties(
+    @DefaultValue("./exports") String directory,
+    @DefaultValue("1000") int pageSize,
+    @DefaultValue("65536") int bufferSize) {}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.model.AuditEntry;
+import org.alfresco.mcp.execution.CallAbortedException;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.model.AuditExport;
+import org.alfresco.mcp.model.OperationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuditExportService {
+
+  private static final Logger log = LoggerFactory.getLogger(AuditExportService.class);
+
+  private static final String GZIP = "gzip";
+  private static final String NONE = "none";
+  private static final long PROGRESS_INTERVAL_NANOS = 1_000_000_000L;
+  private static final String QUERY_SUFFIX = ".query.json";
+
+  private final AuditApi auditApi;
+  private final UpstreamExecutor upstream;
+  private final ObjectWriter entryWriter;
+  private final ObjectMapper objectMapper;
+  private final AuditExportProperties properties;
+
+  public AuditExportService(
+      AuditApi auditApi,
+      UpstreamExecutor upstream,
+      ObjectMapper objectMapper,
+      AuditExportProperties properties) {
+    this.auditApi = auditApi;
+    this.upstream = upstream;
+    this.objectMapper = objectMapper;
+    this.entryWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.properties = properties;
+  }
+
+  @Tool(
+      name = "export_audit_entries",
+      description =
+          "Export all audit entries of an audit application that match an optional where condition"
+              + " to a local NDJSON file (one JSON object per line), compressed with gzip by"
+              + " default. Use this instead of get_x_audit_entries_where_y for large ranges, for"
+              + " example a compliance review. Only the file path, row count, byte size and id"
+              + " range are returned, and progress is reported as log notifications while the"
+              + " export runs. If the export is not complete, call the tool again with the same"
+              + " file, the same appId, where and compression, and resumeAfterId set to the"
+              + " returned lastId.")
+  public OperationResponse<Object> exportAuditEntries(
+      @ToolParam(
+              description =
+                  "The ID of the audit application. The default audit apps for Alfresco are"
+                      + " alfresco-access, tagging, and CMISChangeLog.")
+          String appId,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional condition to filter audit entries by, in the same format as for"
+                      + " get_x_audit_entries_where_y, for example a time range"
+                      + " (createdAt BETWEEN ('2017-06-02T12:13:51.593+01:00' ,"
+                      + " '2017-06-04T10:05:16.536+01:00')).")
+          String where,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional audit entry id to resume after. Only entries with a greater id are"
+                      + " exported.")
+          Long resumeAfterId,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional name of the export file inside the export directory. When resuming,"
+                      + " pass the file of the previous call and the new entries are appended.")
+          String fileName,
+      @ToolParam(
+              required = false,
+              description = "The compression of the export file: gzip (default) or none.")
+          String compression,
+      ToolContext toolContext) {
+    log.info("Exporting audit entries for application: {} where: {}", appId, where);
+
+    String codec = compression == null || compression.isBlank() ? GZIP : compression.toLowerCase();
+    if (!GZIP.equals(codec) && !NONE.equals(codec)) {
+      return failure("Unsupported compression: " + compression + ". Use gzip or none.");
+    }
+
+    Path file;
+    try {
+      file = resolveExportFile(appId, fileName, codec);
+    } catch (IllegalArgumentException e) {
+      return failure(e.getMessage());
+    }
+
+    String existingCodec;
+    try {
+      existingCodec = existingCodec(file);
+    } catch (IOException e) {
+      return failure("Cannot read export file " + file + ": " + e.getMessage());
+    }
+    if (existingCodec != null && !existingCodec.equals(codec)) {
+      return failure(
+          "Export file "
+              + file.getFileName()
+              + " is compressed with "
+              + existingCodec
+              + ". Call again with compression="
+              + existingCodec
+              + " to append to it, or use another file.");
+    }
+
+    ExportQuery query = new ExportQuery(appId, where == null || where.isBlank() ? null : where);
+    try {
+      String mismatch = checkQuery(file, query, existingCodec != null);
+      if (mismatch != null) {
+        return failure(mismatch);
+      }
+    } catch (IOException e) {
+      return failure("Cannot record the query of export file " + file + ": " + e.getMessage());
+    }
+
+    McpSyncServerExchange exchange = exchange(toolContext);
+    AuditEntryPager pager =
+        new AuditEntryPager(
+            auditApi,
+            upstream,
+            appId,
+            where,
+            resumeAfterId == null ? 0 : resumeAfterId,
+            properties.pageSize(),
+            true);
+
+    long rows = 0;
+    Long firstId = null;
+    List<String> messages = new ArrayList<>();
+    long lastProgress = System.nanoTime();
+    try (OutputStream out = open(file, codec);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      generator.setRootValueSeparator(null);
+      while (pager.hasNext()) {
+        for (AuditEntry entry : pager.nextPage()) {
+          entryWriter.writeValue(generator, entry);
+          generator.writeRaw('\n');
+          if (firstId == null) {
+            firstId = entry.getId().longValue();
+          }
+          rows++;
+        }
+        log.info("Exported {} audit entries for application {} to {}", rows, appId, file);
+        if (exchange != null && System.nanoTime() - lastProgress >= PROGRESS_INTERVAL_NANOS) {
+          lastProgress = System.nanoTime();
+          progress(exchange, appId, rows, pager.lastId());
+        }
+      }
+    } catch (CallAbortedException e) {
+      log.warn("Audit export for application {} stopped after {} entries", appId, rows, e);
+      messages.add(
+          "Export incomplete ("
+              + e.getMessage()
+              + "). Call again with fileName="
+              + file.getFileName()
+              + " and resumeAfterId="
+              + pager.lastId());
+    } catch (IOException | RuntimeException e) {
+      log.error("Failed to export audit entries for application: {}", appId, e);
+      messages.add("Error exporting audit entries: " + e.getMessage());
+      messages.add("Entries up to id " + pager.lastId() + " were written to " + file);
+      return OperationResponse.builder().success(false).data(null).messages(messages).build();
+    }
+
+    long bytes;
+    try {
+      bytes = Files.size(file);
+    } catch (IOException e) {
+      bytes = -1;
+    }
+
+    AuditExport export =
+        new AuditExport(
+            file.toString(),
+            rows,
+            bytes,
+            firstId,
+            rows == 0 && resumeAfterId == null ? null : pager.lastId(),
+            messages.isEmpty());
+    return OperationResponse.builder().success(true).data(export).messages(messages).build();
+  }
+
+  private Path resolveExportFile(String appId, String fileName, String codec) {
+    Path directory = Path.of(properties.directory()).toAbsolutePath().normalize();
+    String name =
+        fileName == null || fileName.isBlank()
+            ? appId.replaceAll("[^A-Za-z0-9._-]", "_")
+                + "-"
+                + Instant.now().toEpochMilli()
+                + (GZIP.equals(codec) ? ".ndjson.gz" : ".ndjson")
+            : fileName;
+    Path file = directory.resolve(name).normalize();
+    if (!file.startsWith(directory) || file.equals(directory)) {
+      throw new IllegalArgumentException("Export file must be inside " + directory);
+    }
+    return file;
+  }
+
+  /**
+   * Makes sure an export file only ever holds the entries of one query. The query is kept in a
+   * sidecar file next to the export, written when the export starts; appending to the export with a
+   * different application or where condition, or to an export whose query is unknown, is refused
+   * because the file would silently mix two ranges. An export without entries yet takes the new
+   * query. Returns the reason for refusing, or {@code null} if the export may go ahead.
+   */
+  private String checkQuery(Path file, ExportQuery query, boolean exportStarted)
+      throws IOException {
+    Path queryFile = file.resolveSibling(file.getFileName() + QUERY_SUFFIX);
+    if (!exportStarted) {
+      Files.createDirectories(queryFile.getParent());
+      objectMapper.writeValue(queryFile.toFile(), query);
+      return null;
+    }
+    if (!Files.exists(queryFile)) {
+      return "Export file "
+          + file.getFileName()
+          + " was not written by this tool for a known query. Use another file.";
+    }
+    ExportQuery previous = objectMapper.readValue(queryFile.toFile(), ExportQuery.class);
+    if (previous.equals(query)) {
+      return null;
+    }
+    return "Export file "
+        + file.getFileName()
+        + " holds the entries of appId="
+        + previous.appId()
+        + " where="
+        + previous.where()
+        + ". Call again with the same appId and where to resume it, or use another file.";
+  }
+
+  /** The query an export file was written for, stored next to it to guard resumed exports. */
+  record ExportQuery(String appId, String where) {}
+
+  /**
+   * Opens the export file for appending. Appending to a gzip file adds a new gzip member, which
+   * readers decompress as one continuous stream.
+   */
+  private OutputStream open(Path file, String codec) throws IOException {
+    Files.createDirectories(file.getParent());
+    OutputStream out =
+        Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    if (GZIP.equals(codec)) {
+      out = new GZIPOutputStream(out, properties.bufferSize());
+    }
+    return new BufferedOutputStream(out, properties.bufferSize());
+  }
+
+  /**
+   * Returns the compression of an existing, non-empty export file, or {@code null} if there is
+   * nothing to append to yet.
+   */
+  private static String existingCodec(Path file) throws IOException {
+    if (!Files.exists(file) || Files.size(file) == 0) {
+      return null;
+    }
+    try (InputStream in = Files.newInputStream(file)) {
+      byte[] magic = in.readNBytes(2);
+      boolean gzip =
+          magic.length == 2
+              && (magic[0] & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+              && (magic[1] & 0xff) == (GZIPInputStream.GZIP_MAGIC >> 8);
+      return gzip ? GZIP : NONE;
+    }
+  }
+
+  private static McpSyncServerExchange exchange(ToolContext toolContext) {
+    if (toolContext == null || toolContext.getContext() == null) {
+      return null;
+    }
+    return McpToolUtils.getMcpExchange(toolContext).orElse(null);
+  }
+
+  /** Tells the client how far the export got; a client that cannot be reached is ignored. */
+  private static void progress(
+      McpSyncServerExchange exchange, String appId, long rows, long lastId) {
+    try {
+      exchange.loggingNotification(
+          new McpSchema.LoggingMessageNotification(
+              McpSchema.LoggingLevel.INFO,
+              "export_audit_entries",
+              "Exported " + rows + " audit entries of " + appId + " up to id " + lastId));
+    } catch (RuntimeException e) {
+      log.debug("Could not report audit export progress", e);
+    }
+  }
+
+  private static OperationResponse<Object> failure(String message) {
+    return OperationResponse.builder()
+        .success(false)
+        .data(Collections.emptySet())
+        .messages(List.of(message))
+        .build();
+  }
+}
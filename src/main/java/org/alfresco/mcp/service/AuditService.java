@@ -16,10 +16,21 @@
 
 package org.alfresco.mcp.service;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.alfresco.core.handler.AuditApi;
 import org.alfresco.core.model.AuditApp;
@@ -29,7 +40,21 @@ import org.alfresco.core.model.AuditAppPagingList;
 import org.alfresco.core.model.AuditEntry;
 import org.alfresco.core.model.AuditEntryEntry;
 import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.mcp.analytics.HeavyHitters;
+import org.alfresco.mcp.analytics.HyperLogLog;
+import org.alfresco.mcp.analytics.TDigest;
+import org.alfresco.mcp.execution.CallAbortedException;
+import org.alfresco.mcp.execution.CallContext;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.logging.PayloadLogger;
+import org.alfresco.mcp.model.AuditAnalytics;
+import org.alfresco.mcp.model.AuditAnalytics.Cardinality;
+import org.alfresco.mcp.model.AuditAnalytics.Quantile;
+import org.alfresco.mcp.model.AuditTimeline;
 import org.alfresco.mcp.model.OperationResponse;
+import org.alfresco.mcp.passthrough.AlfrescoStreamingClient;
+import org.alfresco.mcp.passthrough.PassThroughProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.tool.annotation.Tool;
@@ -44,17 +69,44 @@ public class AuditService {
 
   public static final String RECEIVED_RESPONSE = "Received response: {}";
 
+  private static final int ANALYTICS_PAGE_SIZE = 1000;
+  private static final int MAX_TIMELINE_ENTRIES_PER_NODE = 1000;
+  private static final int MAX_TIMELINE_ENTRIES = 1000;
+  private static final int MAX_TOP_K = 100;
+  private static final int HLL_PRECISION = 14;
+  private static final double CMS_EPSILON = 0.0005;
+  private static final double CMS_DELTA = 0.01;
+  private static final double TDIGEST_COMPRESSION = 100;
+  private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99};
+
   private final AuditApi auditApi;
+  private final UpstreamExecutor upstream;
+  private final ExecutionProperties executionProperties;
+  private final PayloadLogger payloadLogger;
+  private final AlfrescoStreamingClient streamingClient;
+  private final PassThroughProperties passThroughProperties;
 
-  public AuditService(AuditApi auditApi) {
+  public AuditService(
+      AuditApi auditApi,
+      UpstreamExecutor upstream,
+      ExecutionProperties executionProperties,
+      PayloadLogger payloadLogger,
+      AlfrescoStreamingClient streamingClient,
+      PassThroughProperties passThroughProperties) {
     this.auditApi = auditApi;
+    this.upstream = upstream;
+    this.executionProperties = executionProperties;
+    this.payloadLogger = payloadLogger;
+    this.streamingClient = streamingClient;
+    this.passThroughProperties = passThroughProperties;
   }
 
   @Tool(
       name = "get_audit_applications",
       description = "Get audit applications and their details from Alfresco Content Service")
   public OperationResponse<Object> getAuditApps() {
-    ResponseEntity<AuditAppPaging> response = auditApi.listAuditApps(0, 100, null);
+    ResponseEntity<AuditAppPaging> response =
+        upstream.call(() -> auditApi.listAuditApps(0, 100, null));
     log.info("Requesting audit applications from Alfresco Content Service");
 
     if (!response.getStatusCode().is2xxSuccessful()) {
@@ -64,7 +116,7 @@ public class AuditService {
           .messages(List.of("Error retrieving audit applications: " + response.getStatusCode()))
           .build();
     } else {
-      log.info(RECEIVED_RESPONSE, response);
+      payloadLogger.debug(log, RECEIVED_RESPONSE, response);
     }
 
     AuditAppPaging auditAppPaging = response.getBody();
@@ -164,9 +216,19 @@ public class AuditService {
                       + " Here is an example of an invalid where statement: (createdByUser='chim-chim' OR createdByUser='admin')). "
                       + " Another invalid statement would be (createdByUser='chim-chim') AND (createdByUser='admin')). This would return a result but it only evaluates the first condition and ignores the second one.")
           String where) {
+    if (passThroughProperties.enabled()) {
+      log.info("Streaming {} audit entries for application: {}", limit, appId);
+      return toOperationResponse(
+          upstream.call(
+              () ->
+                  streamingClient.listAuditEntriesForAuditApp(
+                      appId, limit, where, passThroughProperties.auditEntryProjection())));
+    }
     ResponseEntity<AuditEntryPaging> response =
-        auditApi.listAuditEntriesForAuditApp(
-            appId, 0, Boolean.FALSE, null, limit, where, List.of("values"), null);
+        upstream.call(
+            () ->
+                auditApi.listAuditEntriesForAuditApp(
+                    appId, 0, Boolean.FALSE, null, limit, where, List.of("values"), null));
     log.info("Requesting {} audit entries for application: {}", limit, appId);
 
     if (!response.getStatusCode().is2xxSuccessful()) {
@@ -176,10 +238,14 @@ public class AuditService {
           .messages(List.of("Error retrieving audit entries: " + response.getStatusCode()))
           .build();
     } else {
-      log.info(RECEIVED_RESPONSE, response);
+      payloadLogger.debug(log, RECEIVED_RESPONSE, response);
     }
 
-    AuditEntryPaging auditEntryPaging = response.getBody();
+    return toOperationResponse(response.getBody());
+  }
+
+  /** Builds the tool response for a page of audit entries. */
+  public static OperationResponse<Object> toOperationResponse(AuditEntryPaging auditEntryPaging) {
     if (auditEntryPaging == null) {
       return OperationResponse.builder()
           .success(false)
@@ -202,7 +268,27 @@ public class AuditService {
     return OperationResponse.builder().success(true).data(auditEntries).build();
   }
 
-  private Set<AuditEntry> extractAuditEntries(List<AuditEntryEntry> entries) {
+  /** Builds the tool response for audit entries streamed by the pass-through path. */
+  private static OperationResponse<Object> toOperationResponse(
+      AlfrescoStreamingClient.Result result) {
+    if (!result.isSuccessful()) {
+      return OperationResponse.builder()
+          .success(false)
+          .data(Collections.emptySet())
+          .messages(List.of("Error retrieving audit entries: " + result.status()))
+          .build();
+    }
+    if (result.projection().count() == 0) {
+      return OperationResponse.builder()
+          .success(false)
+          .data(Collections.emptySet())
+          .messages(List.of("Error retrieving audit entries: No entries found"))
+          .build();
+    }
+    return OperationResponse.builder().success(true).data(result.projection().entries()).build();
+  }
+
+  private static Set<AuditEntry> extractAuditEntries(List<AuditEntryEntry> entries) {
     return entries.stream()
         .map(AuditEntryEntry::getEntry)
         .filter(Objects::nonNull)
@@ -233,8 +319,19 @@ public class AuditService {
       @ToolParam(
               description = "The number of audit entries to retrieve. This is a positive integer.")
           int limit) {
+    if (passThroughProperties.enabled()) {
+      log.info("Streaming audit entries for node: {}", nodeId);
+      return toOperationResponse(
+          upstream.call(
+              () ->
+                  streamingClient.listAuditEntriesForNode(
+                      nodeId, limit, passThroughProperties.auditEntryProjection())));
+    }
     ResponseEntity<AuditEntryPaging> response =
-        auditApi.listAuditEntriesForNode(nodeId, 0, null, limit, null, List.of("values"), null);
+        upstream.call(
+            () ->
+                auditApi.listAuditEntriesForNode(
+                    nodeId, 0, null, limit, null, List.of("values"), null));
     log.info("Requesting audit entries for node: {}", nodeId);
 
     if (!response.getStatusCode().is2xxSuccessful()) {
@@ -244,29 +341,291 @@ public class AuditService {
           .messages(List.of("Error retrieving audit entries: " + response.getStatusCode()))
           .build();
     } else {
-      log.info(RECEIVED_RESPONSE, response);
+      payloadLogger.debug(log, RECEIVED_RESPONSE, response);
     }
 
-    AuditEntryPaging auditEntryPaging = response.getBody();
-    if (auditEntryPaging == null) {
+    return toOperationResponse(response.getBody());
+  }
+
+  @Tool(
+      name = "get_audit_timeline_for_nodes",
+      description =
+          "Get the most recent audit entries of many nodes in one call, merged into a single"
+              + " timeline ordered from oldest to newest where each entry is tagged with its node."
+              + " Use this instead of calling get_x_audit_entries_for_specific_node once per node,"
+              + " for example to investigate all documents of a folder. Nodes whose entries cannot"
+              + " be retrieved are reported as failures without failing the whole call.")
+  public OperationResponse<Object> getAuditTimelineForNodes(
+      @ToolParam(
+              description =
+                  "The IDs of the nodes to retrieve audit entries for. Each node ID is a UUID, such"
+                      + " as '12345678-1234-1234-1234-123456789012'.")
+          List<String> nodeIds,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional maximum number of audit entries to retrieve per node (default 100,"
+                      + " at most 1000).")
+          Integer limitPerNode,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional maximum number of audit entries in the timeline (default and at most"
+                      + " 1000). The most recent entries are kept.")
+          Integer totalLimit) {
+    if (nodeIds == null || nodeIds.isEmpty()) {
       return OperationResponse.builder()
           .success(false)
           .data(Collections.emptySet())
-          .messages(List.of("Error retrieving audit entries: No response body"))
+          .messages(List.of("Error retrieving audit timeline: No node IDs given"))
           .build();
     }
 
-    List<AuditEntryEntry> entries = auditEntryPaging.getList().getEntries();
-    if (entries == null || entries.isEmpty()) {
+    List<String> distinctNodeIds = nodeIds.stream().filter(Objects::nonNull).distinct().toList();
+    int perNode =
+        limitPerNode == null || limitPerNode <= 0
+            ? 100
+            : Math.min(limitPerNode, MAX_TIMELINE_ENTRIES_PER_NODE);
+    int total =
+        totalLimit == null || totalLimit <= 0
+            ? MAX_TIMELINE_ENTRIES
+            : Math.min(totalLimit, MAX_TIMELINE_ENTRIES);
+    log.info("Requesting audit timeline for {} nodes", distinctNodeIds.size());
+
+    Queue<String> pending = new ConcurrentLinkedQueue<>(distinctNodeIds);
+    Map<String, List<AuditEntry>> timelines = new ConcurrentHashMap<>();
+    Map<String, String> failures = new ConcurrentHashMap<>();
+    int workers = Math.min(executionProperties.fanOutParallelism(), distinctNodeIds.size());
+
+    List<Future<Void>> futures = new ArrayList<>(workers);
+    List<String> messages = new ArrayList<>();
+    try {
+      for (int i = 0; i < workers; i++) {
+        futures.add(
+            upstream.submit(
+                () -> {
+                  fetchNodeTimelines(pending, perNode, timelines, failures);
+                  return null;
+                }));
+      }
+      for (Future<Void> future : futures) {
+        upstream.await(future);
+      }
+    } catch (CallAbortedException e) {
+      log.warn("Audit timeline stopped after {} nodes", timelines.size(), e);
+      messages.add("Timeline incomplete: " + e.getMessage());
+      futures.forEach(future -> future.cancel(true));
+    }
+
+    // Cancelled workers may still be finishing a request, so the result is built from one
+    // snapshot and nothing they write afterwards can make it inconsistent.
+    Map<String, List<AuditEntry>> retrieved = new HashMap<>(timelines);
+    Map<String, String> failed = new TreeMap<>(failures);
+    for (String nodeId : distinctNodeIds) {
+      if (retrieved.containsKey(nodeId)) {
+        failed.remove(nodeId);
+      } else {
+        failed.putIfAbsent(nodeId, "Not retrieved before the deadline");
+      }
+    }
+
+    List<AuditTimeline.Event> events = new ArrayList<>();
+    retrieved.forEach(
+        (nodeId, entries) ->
+            entries.forEach(entry -> events.add(new AuditTimeline.Event(nodeId, entry))));
+    events.sort(
+        Comparator.comparing(
+                (AuditTimeline.Event event) -> event.entry().getCreatedAt(),
+                Comparator.nullsFirst(OffsetDateTime::compareTo))
+            .thenComparingLong(event -> event.entry().getId().longValue()));
+
+    boolean truncated = events.size() > total;
+    List<AuditTimeline.Event> timeline =
+        truncated ? events.subList(events.size() - total, events.size()) : events;
+
+    AuditTimeline auditTimeline =
+        new AuditTimeline(List.copyOf(timeline), retrieved.size(), failed, truncated);
+    return OperationResponse.builder()
+        .success(!retrieved.isEmpty())
+        .data(auditTimeline)
+        .messages(messages)
+        .build();
+  }
+
+  /**
+   * Fetches the audit entries of nodes taken from {@code pending} until it is empty. Runs on an
+   * upstream thread, so the Alfresco API is called directly.
+   */
+  private void fetchNodeTimelines(
+      Queue<String> pending,
+      int limit,
+      Map<String, List<AuditEntry>> timelines,
+      Map<String, String> failures) {
+    CallContext context = CallContext.current();
+    String nodeId;
+    while ((nodeId = pending.poll()) != null) {
+      if (context != null && (context.isCancelled() || context.isExpired())) {
+        failures.put(nodeId, "Not retrieved before the deadline");
+        continue;
+      }
+      try {
+        ResponseEntity<AuditEntryPaging> response =
+            auditApi.listAuditEntriesForNode(
+                nodeId, 0, List.of("createdAt DESC"), limit, null, List.of("values"), null);
+        AuditEntryPaging auditEntryPaging = response.getBody();
+        if (!response.getStatusCode().is2xxSuccessful()) {
+          failures.put(nodeId, "Error retrieving audit entries: " + response.getStatusCode());
+        } else if (auditEntryPaging == null || auditEntryPaging.getList() == null) {
+          failures.put(nodeId, "Error retrieving audit entries: No response body");
+        } else {
+          List<AuditEntryEntry> entries = auditEntryPaging.getList().getEntries();
+          timelines.put(
+              nodeId,
+              entries == null
+                  ? List.of()
+                  : entries.stream()
+                      .map(AuditEntryEntry::getEntry)
+                      .filter(entry -> entry != null && entry.getId() != null)
+                      .toList());
+        }
+      } catch (RuntimeException e) {
+        log.warn("Failed to retrieve audit entries for node: {}", nodeId, e);
+        failures.put(nodeId, "Error retrieving audit entries: " + e.getMessage());
+      }
+    }
+  }
+
+  @Tool(
+      name = "get_audit_analytics",
+      description =
+          "Get approximate statistics over a potentially very long range of audit entries of an"
+              + " audit application: the number of distinct users and nodes, the most active users,"
+              + " the most frequent actions and nodes, and quantiles of the time between events."
+              + " Entries are streamed and summarised in fixed memory, so years of audit history"
+              + " can be analysed. Every estimate is returned with its error bound.")
+  public OperationResponse<Object> getAuditAnalytics(
+      @ToolParam(
+              description =
+                  "The ID of the audit application. The default audit apps for Alfresco are"
+                      + " alfresco-access, tagging, and CMISChangeLog.")
+          String appId,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional condition to filter audit entries by, in the same format as for"
+                      + " get_x_audit_entries_where_y, for example a createdAt BETWEEN time range.")
+          String where,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional maximum number of audit entries to analyse. Analyses all matching"
+                      + " entries when omitted.")
+          Long maxEntries,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional number of top users, actions and nodes to return (default 10, at"
+                      + " most 100).")
+          Integer topK) {
+    log.info("Analysing audit entries for application: {} where: {}", appId, where);
+
+    int k = topK == null || topK <= 0 ? 10 : Math.min(topK, MAX_TOP_K);
+    long max = maxEntries == null || maxEntries <= 0 ? Long.MAX_VALUE : maxEntries;
+
+    HyperLogLog users = new HyperLogLog(HLL_PRECISION);
+    HyperLogLog nodes = new HyperLogLog(HLL_PRECISION);
+    HeavyHitters topUsers = new HeavyHitters(k, CMS_EPSILON, CMS_DELTA);
+    HeavyHitters topActions = new HeavyHitters(k, CMS_EPSILON, CMS_DELTA);
+    HeavyHitters topNodes = new HeavyHitters(k, CMS_EPSILON, CMS_DELTA);
+    TDigest interEvent = new TDigest(TDIGEST_COMPRESSION);
+
+    AuditEntryPager pager =
+        new AuditEntryPager(auditApi, upstream, appId, where, 0, ANALYTICS_PAGE_SIZE, true);
+    long count = 0;
+    Long firstId = null;
+    Long lastId = null;
+    boolean stoppedEarly = false;
+    long previousMillis = Long.MIN_VALUE;
+    List<String> messages = new ArrayList<>();
+    try {
+      while (pager.hasNext() && !stoppedEarly) {
+        for (AuditEntry entry : pager.nextPage()) {
+          if (count == max) {
+            stoppedEarly = true;
+            break;
+          }
+          count++;
+          if (firstId == null) {
+            firstId = entry.getId().longValue();
+          }
+          lastId = entry.getId().longValue();
+
+          if (entry.getCreatedByUser() != null && entry.getCreatedByUser().getId() != null) {
+            users.add(entry.getCreatedByUser().getId());
+            topUsers.add(entry.getCreatedByUser().getId());
+          }
+          String action = findValue(entry.getValues(), "/action");
+          if (action != null) {
+            topActions.add(action);
+          }
+          String path = findValue(entry.getValues(), "/path");
+          if (path != null) {
+            nodes.add(path);
+            topNodes.add(path);
+          }
+          if (entry.getCreatedAt() != null) {
+            long millis = entry.getCreatedAt().toInstant().toEpochMilli();
+            if (previousMillis != Long.MIN_VALUE) {
+              interEvent.add(millis - previousMillis);
+            }
+            previousMillis = millis;
+          }
+        }
+      }
+    } catch (CallAbortedException e) {
+      log.warn("Audit analytics for application {} stopped after {} entries", appId, count, e);
+      messages.add(
+          "Analysis incomplete (" + e.getMessage() + "), results cover " + count + " entries");
+    } catch (RuntimeException e) {
+      log.error("Failed to analyse audit entries for application: {}", appId, e);
       return OperationResponse.builder()
           .success(false)
           .data(Collections.emptySet())
-          .messages(List.of("Error retrieving audit entries: No entries found"))
+          .messages(List.of("Error analysing audit entries: " + e.getMessage()))
           .build();
     }
 
-    Set<AuditEntry> auditEntries = extractAuditEntries(entries);
+    Map<String, Quantile> quantiles = new LinkedHashMap<>();
+    if (interEvent.count() > 0) {
+      for (double q : QUANTILES) {
+        Quantile quantile = new Quantile(interEvent.quantile(q), interEvent.rankError(q));
+        quantiles.put("p" + Math.round(q * 100), quantile);
+      }
+    }
 
-    return OperationResponse.builder().success(true).data(auditEntries).build();
+    AuditAnalytics analytics =
+        new AuditAnalytics(
+            count,
+            firstId,
+            lastId,
+            messages.isEmpty() && !stoppedEarly,
+            new Cardinality(users.estimate(), users.relativeStandardError()),
+            new Cardinality(nodes.estimate(), nodes.relativeStandardError()),
+            topUsers.top(),
+            topActions.top(),
+            topNodes.top(),
+            quantiles);
+    return OperationResponse.builder().success(true).data(analytics).messages(messages).build();
+  }
+
+  private static String findValue(Object values, String keySuffix) {
+    if (values instanceof Map<?, ?> map) {
+      for (Map.Entry<?, ?> value : map.entrySet()) {
+        if (value.getValue() != null && String.valueOf(value.getKey()).endsWith(keySuffix)) {
+          return value.getValue().toString();
+        }
+      }
+    }
+    return null;
   }
 }
@@ -19,6 +19,9 @@ package org.alfresco.mcp.service;
 import java.util.List;
 import org.alfresco.discovery.handler.DiscoveryApi;
 import org.alfresco.discovery.model.DiscoveryEntry;
+import org.alfresco.mcp.execution.CallAbortedException;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.logging.PayloadLogger;
 import org.alfresco.mcp.model.OperationResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,23 +37,30 @@ public class DiscoveryService {
   public static final String RECEIVED_RESPONSE = "Received response: {}";
 
   private final DiscoveryApi discoveryApi;
+  private final UpstreamExecutor upstream;
+  private final PayloadLogger payloadLogger;
 
-  public DiscoveryService(DiscoveryApi discoveryApi) {
+  public DiscoveryService(
+      DiscoveryApi discoveryApi, UpstreamExecutor upstream, PayloadLogger payloadLogger) {
     this.discoveryApi = discoveryApi;
+    this.upstream = upstream;
+    this.payloadLogger = payloadLogger;
   }
 
   @Tool(
       name = "get_alfresco_discovery_info",
       description =
-          "Retrieves the capabilities and detailed version information from the Alfresco Content Repository.")
+          "Retrieves the capabilities and detailed version information from the Alfresco Content"
+              + " Repository.")
   public OperationResponse<Object> getDiscoveryInfo() {
     log.info("Requesting discovery information from Alfresco Content Service");
 
     OperationResponse.Builder<Object> responseBuilder = OperationResponse.builder();
 
     try {
-      ResponseEntity<DiscoveryEntry> response = discoveryApi.getRepositoryInformation();
-      log.info(RECEIVED_RESPONSE, response);
+      ResponseEntity<DiscoveryEntry> response =
+          upstream.call(discoveryApi::getRepositoryInformation);
+      payloadLogger.debug(log, RECEIVED_RESPONSE, response);
 
       if (!response.getStatusCode().is2xxSuccessful()) {
         log.error("Failed to retrieve discovery information: {}", response.getStatusCode());
@@ -73,12 +83,15 @@ public class DiscoveryService {
             .data(null)
             .messages(
                 List.of(
-                    "Error retrieving discovery information: response body or repository info was null"))
+                    "Error retrieving discovery information: response body or repository info was"
+                        + " null"))
             .build();
       }
 
       return responseBuilder.success(true).data(discoveryEntry.getEntry().getRepository()).build();
 
+    } catch (CallAbortedException e) {
+      throw e;
     } catch (Exception e) {
       log.error("Failed to retrieve discovery information", e);
       return responseBuilder
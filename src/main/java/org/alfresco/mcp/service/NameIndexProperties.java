@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls the local index of file names.
+ *
+ * @param enabled whether the index is built and used for file name lookups
+ * @param rootNodeId the folder the crawl starts from
+ * @param crawlPageSize the number of children requested from Alfresco per call during the crawl
+ * @param crawlRequestsPerSecond the maximum rate of upstream requests made by the crawl
+ * @param recrawlInterval the time between two full crawls
+ * @param auditApplication the audit application whose events keep the index current
+ * @param auditPollInterval the time between two reads of new audit events
+ * @param fuzzyMinSimilarity the minimum trigram similarity, between 0 and 1, of fuzzy matches
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.index")
+public record NameIndexProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("-root-") String rootNodeId,
+    @DefaultValue("500") int crawlPageSize,
+    @DefaultValue("10") int crawlRequestsPerSecond,
+    @DefaultValue("24h") Duration recrawlInterval,
+    @DefaultValue("alfresco-access") String auditApplication,
+    @DefaultValue("30s") Duration auditPollInterval,
+    @DefaultValue("0.3") double fuzzyMinSimilarity) {}
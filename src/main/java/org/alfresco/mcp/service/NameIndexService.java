@@ -0,0 +1,433 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import feign.FeignException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.handler.NodesApi;
+import org.alfresco.core.model.AuditEntry;
+import org.alfresco.core.model.AuditEntryEntry;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.core.model.Node;
+import org.alfresco.core.model.NodeChildAssociation;
+import org.alfresco.core.model.NodeChildAssociationEntry;
+import org.alfresco.core.model.NodeChildAssociationPaging;
+import org.alfresco.core.model.NodeEntry;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.index.NameIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains a {@link NameIndex} of the files in the repository for the file name lookup tools. The
+ * index is built by a background crawl of the folder tree, replaced by a fresh crawl every {@code
+ * recrawlInterval}, and kept current in between from the create, move, rename and delete events of
+ * the {@code alfresco-access} audit application. Events only name the node they happened to, so the
+ * paths of the crawled folders are kept as well: when a folder is moved, renamed or deleted the
+ * files below it are moved or removed with it. Until the first crawl completes the index is cold
+ * and lookups fall back to the repository search.
+ */
+@Service
+public class NameIndexService implements StatisticsProvider, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(NameIndexService.class);
+
+  private static final String ACTION = "/alfresco-access/transaction/action";
+  private static final String NODE = "/alfresco-access/transaction/node";
+  private static final Set<String> REFRESH_ACTIONS =
+      Set.of("CREATE", "MOVE", "COPY", "updateNodeProperties", "CHECK IN");
+  private static final String DELETE_ACTION = "DELETE";
+  private static final int AUDIT_PAGE_SIZE = 200;
+
+  private final NodesApi nodesApi;
+  private final AuditApi auditApi;
+  private final UpstreamExecutor upstream;
+  private final NameIndexProperties properties;
+  private final ScheduledExecutorService scheduler;
+  private final Object auditLock = new Object();
+
+  private volatile NameIndex index = new NameIndex();
+  private volatile boolean ready;
+  private volatile boolean crawling;
+  private long lastAuditId = -1;
+  // Guarded by auditLock, like lastAuditId
+  private Map<String, String> folderPaths = new HashMap<>();
+
+  private final AtomicLong crawls = new AtomicLong();
+  private final AtomicLong crawlRequests = new AtomicLong();
+  private final AtomicLong crawlFailures = new AtomicLong();
+  private final AtomicLong lastCrawlMillis = new AtomicLong();
+  private final AtomicLong auditEvents = new AtomicLong();
+  private final AtomicLong refreshes = new AtomicLong();
+  private final AtomicLong removals = new AtomicLong();
+  private final AtomicLong lookups = new AtomicLong();
+  private final AtomicLong coldLookups = new AtomicLong();
+
+  public NameIndexService(
+      NodesApi nodesApi,
+      AuditApi auditApi,
+      UpstreamExecutor upstream,
+      NameIndexProperties properties) {
+    this.nodesApi = nodesApi;
+    this.auditApi = auditApi;
+    this.upstream = upstream;
+    this.properties = properties;
+    this.scheduler =
+        Executors.newScheduledThreadPool(
+            2,
+            runnable -> {
+              Thread thread = new Thread(runnable, "name-index");
+              thread.setDaemon(true);
+              return thread;
+            });
+    if (properties.enabled()) {
+      scheduler.scheduleWithFixedDelay(
+          this::crawl, 0, properties.recrawlInterval().toMillis(), TimeUnit.MILLISECONDS);
+      long auditInterval = properties.auditPollInterval().toMillis();
+      scheduler.scheduleWithFixedDelay(
+          this::pollAudit, auditInterval, auditInterval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** Whether lookups can be answered from the index. */
+  public boolean isReady() {
+    return properties.enabled() && ready;
+  }
+
+  /** Counts a lookup that went to the repository search because the index was not ready. */
+  public void recordColdLookup() {
+    if (properties.enabled()) {
+      coldLookups.incrementAndGet();
+    }
+  }
+
+  public List<NameIndex.Match> exact(String name, int limit) {
+    lookups.incrementAndGet();
+    return index.exact(name, limit);
+  }
+
+  public List<NameIndex.Match> prefix(String prefix, int limit) {
+    lookups.incrementAndGet();
+    return index.prefix(prefix, limit);
+  }
+
+  public List<NameIndex.Match> fuzzy(String name, int limit) {
+    lookups.incrementAndGet();
+    return index.fuzzy(name, limit, properties.fuzzyMinSimilarity());
+  }
+
+  /** Builds a fresh index from the folder tree and swaps it in once complete. */
+  void crawl() {
+    crawling = true;
+    long start = System.currentTimeMillis();
+    try {
+      long auditIdAtStart = latestAuditId();
+      NameIndex fresh = new NameIndex();
+      Map<String, String> freshFolders = new HashMap<>();
+      Node root = fetchNode(properties.rootNodeId());
+      ArrayDeque<String[]> folders = new ArrayDeque<>();
+      folders.add(new String[] {root.getId(), folderPath(root)});
+      while (!folders.isEmpty()) {
+        String[] folder = folders.poll();
+        freshFolders.put(folder[0], folder[1]);
+        try {
+          crawlFolder(folder[0], folder[1], fresh, folders);
+        } catch (RuntimeException e) {
+          crawlFailures.incrementAndGet();
+          log.debug("Name index crawl skipped folder {}: {}", folder[1], e.toString());
+        }
+      }
+      synchronized (auditLock) {
+        index = fresh;
+        folderPaths = freshFolders;
+        ready = true;
+        // Replay the events of the crawl period, the crawl may have passed their folders already
+        lastAuditId = auditIdAtStart;
+      }
+      crawls.incrementAndGet();
+      lastCrawlMillis.set(System.currentTimeMillis() - start);
+      log.info("Name index crawl indexed {} files in {}ms", fresh.size(), lastCrawlMillis.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      crawlFailures.incrementAndGet();
+      log.warn("Name index crawl failed: {}", e.toString());
+    } finally {
+      crawling = false;
+    }
+  }
+
+  private void crawlFolder(
+      String folderId, String path, NameIndex fresh, ArrayDeque<String[]> folders)
+      throws InterruptedException {
+    int skipCount = 0;
+    boolean more = true;
+    while (more) {
+      throttle();
+      int skip = skipCount;
+      crawlRequests.incrementAndGet();
+      ResponseEntity<NodeChildAssociationPaging> response =
+          upstream.call(
+              () ->
+                  nodesApi.listNodeChildren(
+                      folderId,
+                      skip,
+                      properties.crawlPageSize(),
+                      null,
+                      null,
+                      null,
+                      null,
+                      null,
+                      List.of("id", "name", "isFolder", "isFile")));
+      NodeChildAssociationPaging paging = response.getBody();
+      List<NodeChildAssociationEntry> entries =
+          paging == null || paging.getList() == null ? null : paging.getList().getEntries();
+      if (entries == null || entries.isEmpty()) {
+        return;
+      }
+      for (NodeChildAssociationEntry entry : entries) {
+        NodeChildAssociation child = entry.getEntry();
+        if (child == null) {
+          continue;
+        }
+        if (Boolean.TRUE.equals(child.getIsFolder())) {
+          folders.add(new String[] {child.getId(), path + "/" + child.getName()});
+        } else if (Boolean.TRUE.equals(child.getIsFile())) {
+          fresh.put(child.getId(), child.getName(), path);
+        }
+      }
+      skipCount += entries.size();
+      more =
+          paging.getList().getPagination() != null
+              && Boolean.TRUE.equals(paging.getList().getPagination().getHasMoreItems());
+    }
+  }
+
+  /**
+   * Applies the audit events since the last poll to the index. The audit entries and the changed
+   * nodes are read without holding {@code auditLock}, which is only taken to apply the result, so a
+   * slow repository does not hold up the crawl hand-off. If a crawl was swapped in meanwhile the
+   * result is dropped, the next poll replays the events from where the crawl started.
+   */
+  void pollAudit() {
+    long fromId;
+    synchronized (auditLock) {
+      fromId = lastAuditId;
+    }
+    if (fromId < 0) {
+      return;
+    }
+    try {
+      AuditEntryPager pager =
+          new AuditEntryPager(
+              auditApi,
+              upstream,
+              properties.auditApplication(),
+              null,
+              fromId,
+              AUDIT_PAGE_SIZE,
+              true);
+      Map<String, String> actions = new LinkedHashMap<>();
+      while (pager.hasNext()) {
+        for (AuditEntry entry : pager.nextPage()) {
+          auditEvents.incrementAndGet();
+          if (entry.getValues() instanceof Map<?, ?> values
+              && values.get(ACTION) instanceof String action
+              && values.get(NODE) instanceof String nodeRef
+              && (DELETE_ACTION.equals(action) || REFRESH_ACTIONS.contains(action))) {
+            String nodeId = nodeRef.substring(nodeRef.lastIndexOf('/') + 1);
+            actions.remove(nodeId);
+            actions.put(nodeId, action);
+          }
+        }
+      }
+
+      Map<String, Node> changes = new LinkedHashMap<>();
+      actions.forEach((nodeId, action) -> resolve(nodeId, action, changes));
+
+      synchronized (auditLock) {
+        if (lastAuditId != fromId) {
+          return;
+        }
+        changes.forEach(this::apply);
+        lastAuditId = pager.lastId();
+      }
+    } catch (Exception e) {
+      log.warn("Reading audit events for the name index failed: {}", e.toString());
+    }
+  }
+
+  /**
+   * Reads the current state of a node named by an audit event into {@code changes}, as {@code null}
+   * if the node was deleted. Nodes that cannot be read for another reason are left out.
+   */
+  private void resolve(String nodeId, String action, Map<String, Node> changes) {
+    if (DELETE_ACTION.equals(action)) {
+      changes.put(nodeId, null);
+      return;
+    }
+    try {
+      changes.put(nodeId, fetchNode(nodeId));
+    } catch (FeignException e) {
+      if (e.status() == 404) {
+        changes.put(nodeId, null);
+      }
+    }
+  }
+
+  private void apply(String nodeId, Node node) {
+    if (node == null) {
+      delete(nodeId);
+      return;
+    }
+    refreshes.incrementAndGet();
+    if (Boolean.TRUE.equals(node.getIsFile())) {
+      index.put(node.getId(), node.getName(), parentPath(node));
+    } else if (Boolean.TRUE.equals(node.getIsFolder())) {
+      String path = folderPath(node);
+      String previous = folderPaths.put(nodeId, path);
+      if (previous != null && !previous.equals(path)) {
+        moveFolder(previous, path);
+      }
+    }
+  }
+
+  private void delete(String nodeId) {
+    String folder = folderPaths.remove(nodeId);
+    if (folder != null) {
+      removals.addAndGet(moveFolder(folder, null));
+    } else if (index.remove(nodeId)) {
+      removals.incrementAndGet();
+    }
+  }
+
+  /** Moves (or with a {@code null} target removes) the files and folders below a folder. */
+  private int moveFolder(String from, String to) {
+    String below = from + "/";
+    Map<String, String> moved = new HashMap<>();
+    folderPaths
+        .entrySet()
+        .removeIf(
+            folder -> {
+              String path = folder.getValue();
+              if (!path.startsWith(below)) {
+                return false;
+              }
+              if (to != null) {
+                moved.put(folder.getKey(), to + path.substring(from.length()));
+              }
+              return true;
+            });
+    folderPaths.putAll(moved);
+    return index.movePath(from, to);
+  }
+
+  private long latestAuditId() {
+    ResponseEntity<AuditEntryPaging> response =
+        upstream.call(
+            () ->
+                auditApi.listAuditEntriesForAuditApp(
+                    properties.auditApplication(),
+                    0,
+                    Boolean.TRUE,
+                    List.of("createdAt DESC"),
+                    1,
+                    null,
+                    null,
+                    null));
+    AuditEntryPaging paging = response.getBody();
+    List<AuditEntryEntry> entries =
+        paging == null || paging.getList() == null ? null : paging.getList().getEntries();
+    if (entries == null || entries.isEmpty() || entries.get(0).getEntry() == null) {
+      return 0;
+    }
+    Long id = entries.get(0).getEntry().getId();
+    return id == null ? 0 : id;
+  }
+
+  private Node fetchNode(String nodeId) {
+    ResponseEntity<NodeEntry> response =
+        upstream.call(() -> nodesApi.getNode(nodeId, List.of("path"), null, null));
+    NodeEntry entry = response.getBody();
+    if (!response.getStatusCode().is2xxSuccessful() || entry == null || entry.getEntry() == null) {
+      throw new IllegalStateException("Error retrieving node " + nodeId);
+    }
+    return entry.getEntry();
+  }
+
+  /** The path of the folder a node is in, in the same form as the crawl builds it. */
+  private static String parentPath(Node node) {
+    return node.getPath() == null || node.getPath().getName() == null
+        ? ""
+        : node.getPath().getName().replaceAll("/+$", "");
+  }
+
+  private static String folderPath(Node folder) {
+    return parentPath(folder) + "/" + folder.getName();
+  }
+
+  private void throttle() throws InterruptedException {
+    int perSecond = properties.crawlRequestsPerSecond();
+    if (perSecond > 0) {
+      Thread.sleep(1000L / perSecond);
+    }
+  }
+
+  @Override
+  public String getStatisticsName() {
+    return "nameIndex";
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    NameIndex current = index;
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("enabled", properties.enabled());
+    statistics.put("ready", ready);
+    statistics.put("crawling", crawling);
+    statistics.put("files", current.size());
+    statistics.put("estimatedBytes", current.estimatedBytes());
+    statistics.put("crawls", crawls.get());
+    statistics.put("crawlRequests", crawlRequests.get());
+    statistics.put("crawlFailures", crawlFailures.get());
+    statistics.put("lastCrawlMillis", lastCrawlMillis.get());
+    statistics.put("auditEvents", auditEvents.get());
+    statistics.put("refreshes", refreshes.get());
+    statistics.put("removals", removals.get());
+    statistics.put("lookups", lookups.get());
+    statistics.put("coldLookups", coldLookups.get());
+    return statistics;
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+  }
+}
@@ -16,15 +16,37 @@
 
 package org.alfresco.mcp.service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.alfresco.core.handler.AuditApi;
 import org.alfresco.core.handler.NodesApi;
+import org.alfresco.core.handler.VersionsApi;
+import org.alfresco.core.model.AuditEntry;
+import org.alfresco.core.model.AuditEntryEntry;
 import org.alfresco.core.model.Node;
+import org.alfresco.core.model.NodeAssociation;
+import org.alfresco.core.model.NodeAssociationEntry;
 import org.alfresco.core.model.NodeBodyCreate;
 import org.alfresco.core.model.NodeEntry;
+import org.alfresco.core.model.PermissionsInfo;
+import org.alfresco.core.model.Version;
+import org.alfresco.core.model.VersionEntry;
+import org.alfresco.mcp.execution.CallAbortedException;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.logging.PayloadLogger;
+import org.alfresco.mcp.model.NodeDossier;
 import org.alfresco.mcp.model.OperationResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -33,10 +55,28 @@ public class NodeService {
 
   private static final Logger log = LoggerFactory.getLogger(NodeService.class);
 
+  private static final int MAX_DOSSIER_AUDIT_ENTRIES = 1000;
+
   private final NodesApi nodesApi;
+  private final VersionsApi versionsApi;
+  private final AuditApi auditApi;
+  private final UpstreamExecutor upstream;
+  private final ExecutionProperties executionProperties;
+  private final PayloadLogger payloadLogger;
 
-  public NodeService(NodesApi nodesApi) {
+  public NodeService(
+      NodesApi nodesApi,
+      VersionsApi versionsApi,
+      AuditApi auditApi,
+      UpstreamExecutor upstream,
+      ExecutionProperties executionProperties,
+      PayloadLogger payloadLogger) {
     this.nodesApi = nodesApi;
+    this.versionsApi = versionsApi;
+    this.auditApi = auditApi;
+    this.upstream = upstream;
+    this.executionProperties = executionProperties;
+    this.payloadLogger = payloadLogger;
   }
 
   @Tool(
@@ -44,7 +84,8 @@ public class NodeService {
       description = "Get the node entry for a specific nodeId in Alfresco Content Service")
   public OperationResponse<Object> getNodeEntryById(String nodeId) {
     try {
-      ResponseEntity<NodeEntry> response = nodesApi.getNode(nodeId, null, null, null);
+      ResponseEntity<NodeEntry> response =
+          upstream.call(() -> nodesApi.getNode(nodeId, null, null, null));
       if (!response.getStatusCode().is2xxSuccessful()) {
         log.error("Failed to retrieve node entry for nodeId: {}", nodeId);
         return OperationResponse.builder()
@@ -64,8 +105,11 @@ public class NodeService {
             .build();
       }
 
-      log.info("Node entry for nodeId {}: {}", nodeId, nodeEntry.getEntry());
+      log.info("Retrieved node entry for nodeId: {}", nodeId);
+      payloadLogger.debug(log, "Node entry: {}", nodeEntry.getEntry());
       return OperationResponse.builder().success(true).data(nodeEntry.getEntry()).build();
+    } catch (CallAbortedException e) {
+      throw e;
     } catch (Exception e) {
       log.error("Exception retrieving node entry for nodeId: {}", nodeId, e);
       return OperationResponse.builder()
@@ -83,7 +127,8 @@ public class NodeService {
     List<Node> nodes = new java.util.ArrayList<>();
     for (String nodeId : nodeIds) {
       try {
-        ResponseEntity<NodeEntry> response = nodesApi.getNode(nodeId, null, null, null);
+        ResponseEntity<NodeEntry> response =
+            upstream.call(() -> nodesApi.getNode(nodeId, null, null, null));
         NodeEntry nodeEntry = response.getBody();
         if (response.getStatusCode().is2xxSuccessful()
             && nodeEntry != null
@@ -97,6 +142,8 @@ public class NodeService {
               .messages(List.of("Error retrieving node entry for nodeId: " + nodeId))
               .build();
         }
+      } catch (CallAbortedException e) {
+        throw e;
       } catch (Exception e) {
         log.error("Exception retrieving node entry for nodeId: {}", nodeId, e);
         nodes.add(new Node().id("Exception: " + nodeId));
@@ -105,6 +152,164 @@ public class NodeService {
     return OperationResponse.builder().success(true).data(nodes).build();
   }
 
+  @Tool(
+      name = "get_node_dossier",
+      description =
+          "Get everything needed to understand a single node in Alfresco Content Service in one"
+              + " call: its metadata and path, its parents, its version history, its permissions"
+              + " and its most recent audit entries. Use this instead of chaining"
+              + " get_node_entry_by_id, get_x_audit_entries_for_specific_node and other lookups."
+              + " Parts that cannot be retrieved are listed as failures and the rest is returned.")
+  public OperationResponse<Object> getNodeDossier(
+      @ToolParam(
+              description =
+                  "The ID of the node. The node ID is a UUID, such as"
+                      + " '12345678-1234-1234-1234-123456789012'.")
+          String nodeId,
+      @ToolParam(
+              required = false,
+              description =
+                  "Optional number of recent audit entries to include (default 20, at most"
+                      + " 1000).")
+          Integer auditLimit) {
+    log.info("Requesting node dossier for nodeId: {}", nodeId);
+    int limit =
+        auditLimit == null || auditLimit <= 0
+            ? 20
+            : Math.min(auditLimit, MAX_DOSSIER_AUDIT_ENTRIES);
+
+    SubFetch<Node> node =
+        subFetch(
+            () ->
+                body(nodesApi.getNode(
+                        nodeId,
+                        List.of("path", "allowableOperations", "isLocked", "permissions"),
+                        null,
+                        null))
+                    .getEntry());
+    SubFetch<List<NodeAssociation>> parents =
+        subFetch(
+            () ->
+                body(nodesApi.listParents(nodeId, null, null, 0, 100, null, null))
+                    .getList()
+                    .getEntries()
+                    .stream()
+                    .map(NodeAssociationEntry::getEntry)
+                    .filter(Objects::nonNull)
+                    .toList());
+    SubFetch<List<Version>> versions =
+        subFetch(
+            () ->
+                body(versionsApi.listVersionHistory(nodeId, null, null, 0, 100))
+                    .getList()
+                    .getEntries()
+                    .stream()
+                    .map(VersionEntry::getEntry)
+                    .filter(Objects::nonNull)
+                    .toList());
+    SubFetch<List<AuditEntry>> auditEntries =
+        subFetch(
+            () ->
+                body(
+                        auditApi.listAuditEntriesForNode(
+                            nodeId,
+                            0,
+                            List.of("createdAt DESC"),
+                            limit,
+                            null,
+                            List.of("values"),
+                            null))
+                    .getList()
+                    .getEntries()
+                    .stream()
+                    .map(AuditEntryEntry::getEntry)
+                    .filter(Objects::nonNull)
+                    .toList());
+
+    Map<String, String> failures = new TreeMap<>();
+    Node dossierNode = node.await("node", failures);
+    PermissionsInfo permissions = null;
+    if (dossierNode != null) {
+      permissions = dossierNode.getPermissions();
+      dossierNode.setPermissions(null);
+    }
+    NodeDossier dossier =
+        new NodeDossier(
+            dossierNode,
+            parents.await("parents", failures),
+            versions.await("versions", failures),
+            permissions,
+            auditEntries.await("auditEntries", failures),
+            failures);
+
+    return OperationResponse.builder()
+        .success(dossier.node() != null)
+        .data(dossier)
+        .messages(
+            failures.entrySet().stream()
+                .map(
+                    failure -> "Unable to retrieve " + failure.getKey() + ": " + failure.getValue())
+                .toList())
+        .build();
+  }
+
+  /** Starts fetching one part of a composite response. */
+  private <T> SubFetch<T> subFetch(Supplier<T> fetch) {
+    AtomicLong started = new AtomicLong();
+    Future<T> future =
+        upstream.submit(
+            () -> {
+              started.set(System.nanoTime());
+              return fetch.get();
+            });
+    return new SubFetch<>(future, started);
+  }
+
+  /**
+   * One part of a composite response. Each part may take at most the sub-fetch timeout, measured
+   * from when it started running, so a part that waited for a free upstream thread or was awaited
+   * after a slow one still gets its full time.
+   */
+  private final class SubFetch<T> {
+
+    private final Future<T> future;
+    private final AtomicLong started;
+
+    private SubFetch(Future<T> future, AtomicLong started) {
+      this.future = future;
+      this.started = started;
+    }
+
+    /** Returns the part, or records it in {@code failures} if it fails or times out. */
+    T await(String part, Map<String, String> failures) {
+      try {
+        return upstream.await(future, remaining());
+      } catch (RuntimeException e) {
+        future.cancel(true);
+        log.warn("Failed to retrieve {} for node dossier: {}", part, e.toString());
+        failures.put(part, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+        return null;
+      }
+    }
+
+    private Duration remaining() {
+      long start = started.get();
+      Duration timeout = executionProperties.subFetchTimeout();
+      if (start == 0) {
+        return timeout;
+      }
+      Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+      return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+  }
+
+  private static <T> T body(ResponseEntity<T> response) {
+    if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+      throw new IllegalStateException("Unexpected response: " + response.getStatusCode());
+    }
+    return response.getBody();
+  }
+
   // TOOO
   public OperationResponse<Object> createNode(Node node) {
     try {
@@ -126,7 +331,7 @@ public class NodeService {
       if (!response.getStatusCode().is2xxSuccessful()) {
         log.error("Failed to create node: {}", node);
       } else {
-        log.info("Node created successfully: {}", response.getBody());
+        log.info("Node created successfully: {}", payloadLogger.abbreviate(response.getBody()));
       }
     } catch (Exception e) {
       log.error("Exception creating node: {}", node, e);
@@ -19,6 +19,7 @@ package org.alfresco.mcp.service;
 import java.util.List;
 import org.alfresco.core.handler.ProbesApi;
 import org.alfresco.core.model.ProbeEntry;
+import org.alfresco.mcp.execution.UpstreamExecutor;
 import org.alfresco.mcp.model.OperationResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,18 +34,20 @@ public class ProbeService {
   public static final Logger log = LoggerFactory.getLogger(ProbeService.class);
 
   private final ProbesApi probeAPI;
+  private final UpstreamExecutor upstream;
   private static final String IS_LIVE = "-live-";
   private static final String IS_READY = "-ready-";
 
-  public ProbeService(ProbesApi probeAPI) {
+  public ProbeService(ProbesApi probeAPI, UpstreamExecutor upstream) {
     this.probeAPI = probeAPI;
+    this.upstream = upstream;
   }
 
   @Tool(
       name = "is_alfresco_live",
       description = "Check if Alfresco Content Service is up and running.")
   public OperationResponse<Object> isAlfrescoLive() {
-    ResponseEntity<ProbeEntry> response = probeAPI.getProbe(IS_LIVE);
+    ResponseEntity<ProbeEntry> response = upstream.call(() -> probeAPI.getProbe(IS_LIVE));
     log.info("Checking if Alfresco Content Service is live");
 
     if (!response.getStatusCode().is2xxSuccessful()) {
@@ -93,7 +96,7 @@ public class ProbeService {
       name = "is_alfresco_ready",
       description = "Check if Alfresco Content Service is ready to accept requests.")
   public OperationResponse<Object> isAlfrescoReady() {
-    ResponseEntity<ProbeEntry> response = probeAPI.getProbe(IS_READY);
+    ResponseEntity<ProbeEntry> response = upstream.call(() -> probeAPI.getProbe(IS_READY));
     log.info("Checking if Alfresco Content Service is ready");
 
     if (!response.getStatusCode().is2xxSuccessful()) {
@@ -16,15 +16,23 @@
 
 package org.alfresco.mcp.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.alfresco.core.handler.QueriesApi;
 import org.alfresco.core.model.Node;
 import org.alfresco.core.model.NodeEntry;
 import org.alfresco.core.model.NodePaging;
+import org.alfresco.core.model.PathInfo;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.index.NameIndex;
+import org.alfresco.mcp.logging.PayloadLogger;
 import org.alfresco.mcp.model.OperationResponse;
+import org.alfresco.mcp.passthrough.AlfrescoStreamingClient;
+import org.alfresco.mcp.passthrough.PassThroughProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -34,27 +42,54 @@ public class QueryService {
   private static final Logger log = LoggerFactory.getLogger(QueryService.class);
 
   private final QueriesApi queriesApi;
+  private final UpstreamExecutor upstream;
+  private final PayloadLogger payloadLogger;
+  private final AlfrescoStreamingClient streamingClient;
+  private final PassThroughProperties passThroughProperties;
+  private final NameIndexService nameIndex;
 
-  public QueryService(QueriesApi queriesApi) {
+  public QueryService(
+      QueriesApi queriesApi,
+      UpstreamExecutor upstream,
+      PayloadLogger payloadLogger,
+      AlfrescoStreamingClient streamingClient,
+      PassThroughProperties passThroughProperties,
+      NameIndexService nameIndex) {
     this.queriesApi = queriesApi;
+    this.upstream = upstream;
+    this.payloadLogger = payloadLogger;
+    this.streamingClient = streamingClient;
+    this.passThroughProperties = passThroughProperties;
+    this.nameIndex = nameIndex;
   }
 
   @Tool(
       name = "get_node_id_for_file",
       description = "Get the node ID for a specific file in Alfresco Content Service")
   public OperationResponse<Object> getNodeIdForSpecificFile(String fileName) {
+    if (nameIndex.isReady()) {
+      List<NameIndex.Match> matches = nameIndex.exact(fileName, 1);
+      if (!matches.isEmpty()) {
+        log.info("Resolved node ID for file {} from the name index", fileName);
+        return OperationResponse.builder().success(true).data(matches.get(0).nodeId()).build();
+      }
+    } else {
+      nameIndex.recordColdLookup();
+    }
     // Pass empty lists for include, orderBy, and fields to avoid invalid query errors
     ResponseEntity<NodePaging> response =
-        queriesApi.findNodes(
-            fileName,
-            "-root-",
-            0,
-            100,
-            "cm:content",
-            null, // include
-            null, // orderBy
-            List.of("id") // fields
-            );
+        upstream.call(
+            () ->
+                queriesApi.findNodes(
+                    fileName,
+                    "-root-",
+                    0,
+                    100,
+                    "cm:content",
+                    null, // include
+                    null, // orderBy
+                    List.of("id") // fields
+                    ));
     log.info("Requesting node ID for file: {}", fileName);
 
     if (!response.getStatusCode().is2xxSuccessful()) {
@@ -78,7 +113,7 @@ public class QueryService {
           .build();
     }
 
-    log.info("Node ID for file {}: {}", fileName, nodePaging);
+    payloadLogger.debug(log, "Node paging: {}", nodePaging);
     return OperationResponse.builder()
         .success(true)
         .data(
@@ -94,18 +129,35 @@ public class QueryService {
       name = "all_the_files_with_the_same_name",
       description = "Get all the files with the same name in Alfresco Content Service")
   public OperationResponse<Object> getAllTheFilesWithTheSameName(String fileName) {
+    if (nameIndex.isReady()) {
+      List<NameIndex.Match> matches = nameIndex.exact(fileName, 100);
+      if (!matches.isEmpty()) {
+        log.info("Resolved {} files named {} from the name index", matches.size(), fileName);
+        return OperationResponse.builder()
+            .success(true)
+            .data(matches.stream().map(QueryService::toNode).toList())
+            .build();
+      }
+    } else {
+      nameIndex.recordColdLookup();
+    }
+    if (passThroughProperties.enabled()) {
+      return streamAllTheFilesWithTheSameName(fileName);
+    }
     // Pass empty lists for include, orderBy, and fields to avoid invalid query errors
     ResponseEntity<NodePaging> response =
-        queriesApi.findNodes(
-            fileName,
-            "-root-",
-            0,
-            100,
-            "cm:content",
-            null, // include
-            null, // orderBy
-            null // fields
-            );
+        upstream.call(
+            () ->
+                queriesApi.findNodes(
+                    fileName,
+                    "-root-",
+                    0,
+                    100,
+                    "cm:content",
+                    null, // include
+                    null, // orderBy
+                    null // fields
+                    ));
     log.info("Requesting nodes for file: {}", fileName);
 
     if (!response.getStatusCode().is2xxSuccessful()) {
@@ -129,10 +181,80 @@ public class QueryService {
           .build();
     }
 
-    log.info("Nodes for the file {}: {}", fileName, nodePaging);
+    payloadLogger.debug(log, "Node paging: {}", nodePaging);
     return OperationResponse.builder()
         .success(true)
         .data(nodePaging.getList().getEntries().stream().map(NodeEntry::getEntry).toList())
         .build();
   }
+
+  /** A node of the same shape as a search result, with the fields the name index knows. */
+  private static Node toNode(NameIndex.Match match) {
+    return new Node()
+        .id(match.nodeId())
+        .name(match.name())
+        .isFile(true)
+        .isFolder(false)
+        .path(new PathInfo().name(match.path()));
+  }
+
+  private OperationResponse<Object> streamAllTheFilesWithTheSameName(String fileName) {
+    log.info("Streaming nodes for file: {}", fileName);
+    AlfrescoStreamingClient.Result result =
+        upstream.call(
+            () ->
+                streamingClient.findNodes(
+                    fileName, 100, "cm:content", passThroughProperties.nodeProjection()));
+    if (!result.isSuccessful()) {
+      log.error("Failed to retrieve nodes for file: {}", fileName);
+      return OperationResponse.builder()
+          .success(false)
+          .data(null)
+          .messages(List.of("Error retrieving nodes"))
+          .build();
+    }
+    return OperationResponse.builder().success(true).data(result.projection().entries()).build();
+  }
+
+  @Tool(
+      name = "find_files_by_name",
+      description =
+          "Find files by name in Alfresco Content Service, tolerating partial names and typos."
+              + " Returns the node ID, name, folder path and a similarity score of each match, best"
+              + " first. Use 'exact' to match the whole name, 'prefix' for names starting with the"
+              + " given text, and 'fuzzy' (the default) for names similar to it.")
+  public OperationResponse<Object> findFilesByName(
+      @ToolParam(description = "The file name, or part of it, to look for.") String name,
+      @ToolParam(required = false, description = "One of 'exact', 'prefix' or 'fuzzy'.")
+          String mode,
+      @ToolParam(required = false, description = "The maximum number of matches (default 20).")
+          Integer limit) {
+    int maxMatches = limit == null || limit <= 0 ? 20 : limit;
+    String matchMode = mode == null || mode.isBlank() ? "fuzzy" : mode.toLowerCase();
+    if (!nameIndex.isReady()) {
+      log.info("Name index is not ready, searching the repository for: {}", name);
+      OperationResponse<Object> response =
+          getAllTheFilesWithTheSameName("prefix".equals(matchMode) ? name + "*" : name);
+      List<String> messages = new ArrayList<>(response.getMessages());
+      messages.add("The name index is not ready; results are from the repository search.");
+      response.setMessages(messages);
+      return response;
+    }
+    List<NameIndex.Match> matches =
+        switch (matchMode) {
+          case "exact" -> nameIndex.exact(name, maxMatches);
+          case "prefix" -> nameIndex.prefix(name, maxMatches);
+          case "fuzzy" -> nameIndex.fuzzy(name, maxMatches);
+          default -> null;
+        };
+    if (matches == null) {
+      return OperationResponse.builder()
+          .success(false)
+          .data(null)
+          .messages(List.of("Unknown mode: " + mode))
+          .build();
+    }
+    log.info("Found {} {} matches for {} in the name index", matches.size(), matchMode, name);
+    return OperationResponse.builder().success(true).data(matches).build();
+  }
 }
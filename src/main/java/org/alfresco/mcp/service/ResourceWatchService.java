@@ -0,0 +1,679 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import io.modelcontextprotocol.spec.McpSession;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.handler.NodesApi;
+import org.alfresco.core.model.AuditEntry;
+import org.alfresco.core.model.AuditEntryEntry;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.core.model.Node;
+import org.alfresco.core.model.NodeEntry;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.model.OperationResponse;
+import org.alfresco.mcp.model.ResourceWatch;
+import org.alfresco.mcp.tool.McpSessions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Exposes watched audit applications and nodes as MCP resources and keeps them current with one
+ * shared poller. Each watched audit application is polled once per interval from the last audit id
+ * seen, however many sessions of this server watch it, and each watched node is polled once for
+ * changes to its modification date. When a resource changes a {@code
+ * notifications/resources/updated} notification is sent to the sessions subscribed to it, and they
+ * read the new entries from the resource instead of polling Alfresco Content Service themselves.
+ *
+ * <p>Polls are only shared between the sessions of one server process. Over the stdio transport
+ * every client starts its own server process, so N clients watching the same resource still make N
+ * polls; sharing them needs a transport that serves several sessions from one process.
+ *
+ * <p>Watches are counted per client session. The SDK does not report when a session ends, so a
+ * session's subscription lapses when it has neither renewed the watch, read the resource nor asked
+ * for its entries within the subscription timeout. A resource is released once no session is
+ * subscribed to it any more. Resources are registered with and removed from the MCP server under
+ * the watch lock, so the server always lists exactly the watched resources.
+ */
+@Service
+public class ResourceWatchService implements StatisticsProvider, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ResourceWatchService.class);
+
+  static final String RESOURCES_UPDATED = "notifications/resources/updated";
+
+  private static final String MIME_TYPE = "application/json";
+
+  private final AuditApi auditApi;
+  private final NodesApi nodesApi;
+  private final UpstreamExecutor upstream;
+  private final WatchProperties properties;
+  private final ObjectMapper objectMapper;
+  private final ObjectProvider<McpSyncServer> syncServer;
+  private final ObjectProvider<McpAsyncServer> asyncServer;
+  private final ObjectProvider<McpServerTransportProvider> transportProvider;
+  private final ScheduledExecutorService poller;
+  private final LongSupplier clock;
+
+  private final Object watchLock = new Object();
+  private final Map<String, AuditStream> streams = new ConcurrentHashMap<>();
+  private final Map<String, NodeWatch> nodes = new ConcurrentHashMap<>();
+
+  private final AtomicLong polls = new AtomicLong();
+  private final AtomicLong upstreamRequests = new AtomicLong();
+  private final AtomicLong pollsShared = new AtomicLong();
+  private final AtomicLong notifications = new AtomicLong();
+  private final AtomicLong entriesSeen = new AtomicLong();
+  private final AtomicLong pollFailures = new AtomicLong();
+  private final AtomicLong expiredSubscriptions = new AtomicLong();
+
+  @Autowired
+  public ResourceWatchService(
+      AuditApi auditApi,
+      NodesApi nodesApi,
+      UpstreamExecutor upstream,
+      WatchProperties properties,
+      ObjectMapper objectMapper,
+      ObjectProvider<McpSyncServer> syncServer,
+      ObjectProvider<McpAsyncServer> asyncServer,
+      ObjectProvider<McpServerTransportProvider> transportProvider) {
+    this(
+        auditApi,
+        nodesApi,
+        upstream,
+        properties,
+        objectMapper,
+        syncServer,
+        asyncServer,
+        transportProvider,
+        System::currentTimeMillis);
+  }
+
+  ResourceWatchService(
+      AuditApi auditApi,
+      NodesApi nodesApi,
+      UpstreamExecutor upstream,
+      WatchProperties properties,
+      ObjectMapper objectMapper,
+      ObjectProvider<McpSyncServer> syncServer,
+      ObjectProvider<McpAsyncServer> asyncServer,
+      ObjectProvider<McpServerTransportProvider> transportProvider,
+      LongSupplier clock) {
+    this.auditApi = auditApi;
+    this.nodesApi = nodesApi;
+    this.upstream = upstream;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.syncServer = syncServer;
+    this.asyncServer = asyncServer;
+    this.transportProvider = transportProvider;
+    this.clock = clock;
+    this.poller =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "resource-watch");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = properties.pollInterval().toMillis();
+    poller.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Tool(
+      name = "watch_audit_application",
+      description =
+          "Watch an audit application for new audit entries instead of polling"
+              + " get_audit_entries. Returns the URI of an MCP resource holding the most recent"
+              + " entries; the server sends a notifications/resources/updated notification for"
+              + " that URI whenever new entries arrive. Use get_watched_audit_entries with the"
+              + " last id you have seen to get only the new entries.")
+  public OperationResponse<Object> watchAuditApplication(
+      @ToolParam(description = "The ID of the audit application, e.g. 'alfresco-access'.")
+          String appId,
+      ToolContext toolContext) {
+    try {
+      Subscription<AuditStream> subscription =
+          subscribe(
+              streams, appId, () -> new AuditStream(appId, latestAuditId(appId)), toolContext);
+      AuditStream stream = subscription.watch();
+      log.info("Watching audit application {} ({} watchers)", appId, subscription.watchers());
+      return OperationResponse.builder()
+          .success(true)
+          .data(new ResourceWatch(stream.uri, subscription.watchers(), stream.lastId))
+          .build();
+    } catch (Exception e) {
+      log.error("Exception watching audit application: {}", appId, e);
+      return OperationResponse.builder()
+          .success(false)
+          .data(null)
+          .messages(List.of("Exception watching audit application: " + appId))
+          .build();
+    }
+  }
+
+  @Tool(
+      name = "watch_node",
+      description =
+          "Watch a node for changes. Returns the URI of an MCP resource holding the node; the"
+              + " server sends a notifications/resources/updated notification for that URI"
+              + " whenever the node is modified.")
+  public OperationResponse<Object> watchNode(
+      @ToolParam(
+              description =
+                  "The ID of the node. The node ID is a UUID, such as"
+                      + " '12345678-1234-1234-1234-123456789012'.")
+          String nodeId,
+      ToolContext toolContext) {
+    try {
+      Subscription<NodeWatch> subscription =
+          subscribe(nodes, nodeId, () -> new NodeWatch(nodeId, fetchNode(nodeId)), toolContext);
+      NodeWatch watch = subscription.watch();
+      log.info("Watching node {} ({} watchers)", nodeId, subscription.watchers());
+      return OperationResponse.builder()
+          .success(true)
+          .data(new ResourceWatch(watch.uri, subscription.watchers(), null))
+          .build();
+    } catch (Exception e) {
+      log.error("Exception watching node: {}", nodeId, e);
+      return OperationResponse.builder()
+          .success(false)
+          .data(null)
+          .messages(List.of("Exception watching node: " + nodeId))
+          .build();
+    }
+  }
+
+  @Tool(
+      name = "unwatch_resource",
+      description =
+          "Stop watching an audit application or node, given the resource URI returned by"
+              + " watch_audit_application or watch_node.")
+  public OperationResponse<Object> unwatchResource(
+      @ToolParam(description = "The URI of the watched resource.") String uri,
+      ToolContext toolContext) {
+    Object session = McpSessions.of(toolContext);
+    boolean found = false;
+    synchronized (watchLock) {
+      Watch watch = find(uri);
+      if (watch != null && watch.subscribers.remove(session) != null) {
+        found = true;
+        if (watch.subscribers.isEmpty()) {
+          release(watch);
+        }
+      }
+    }
+    if (found) {
+      return OperationResponse.builder().success(true).data(uri).build();
+    }
+    return OperationResponse.builder()
+        .success(false)
+        .data(null)
+        .messages(List.of("No watch for resource: " + uri))
+        .build();
+  }
+
+  @Tool(
+      name = "get_watched_audit_entries",
+      description =
+          "Get the audit entries of a watched audit application that are newer than the given"
+              + " id, without querying Alfresco Content Service. Call watch_audit_application"
+              + " first.")
+  public OperationResponse<Object> getWatchedAuditEntries(
+      @ToolParam(description = "The ID of the watched audit application.") String appId,
+      @ToolParam(
+              required = false,
+              description = "Only return entries with a greater id. Defaults to all kept entries.")
+          Long afterId,
+      ToolContext toolContext) {
+    AuditStream stream = streams.get(appId);
+    if (stream == null) {
+      return OperationResponse.builder()
+          .success(false)
+          .data(null)
+          .messages(List.of("Audit application is not watched: " + appId))
+          .build();
+    }
+    renew(stream, McpSessions.exchange(toolContext));
+    return OperationResponse.builder()
+        .success(true)
+        .data(stream.entriesAfter(afterId == null ? Long.MIN_VALUE : afterId))
+        .build();
+  }
+
+  /**
+   * Subscribes the session of a tool call to the watch with the given key, creating the watch if
+   * there is none. Creating a watch reads its initial state from Alfresco, which happens outside
+   * the watch lock so that a slow upstream call does not hold up other watches.
+   */
+  private <W extends Watch> Subscription<W> subscribe(
+      Map<String, W> watches, String key, Supplier<W> create, ToolContext toolContext) {
+    Object exchange = McpSessions.exchange(toolContext);
+    Subscriber subscriber = new Subscriber(clock.getAsLong(), McpSessions.connection(exchange));
+    while (true) {
+      W created = watches.containsKey(key) ? null : create.get();
+      synchronized (watchLock) {
+        W watch = created == null ? watches.get(key) : watches.putIfAbsent(key, created);
+        if (watch == null && created != null) {
+          watch = created;
+          register(watch);
+        }
+        // A watch that was released since it was looked up is created again
+        if (watch != null) {
+          watch.subscribers.put(McpSessions.of(exchange), subscriber);
+          return new Subscription<>(watch, watch.subscribers.size());
+        }
+      }
+    }
+  }
+
+  /** Keeps the subscription of the session of an exchange alive, if it has one. */
+  private void renew(Watch watch, Object exchange) {
+    long now = clock.getAsLong();
+    synchronized (watchLock) {
+      watch.subscribers.computeIfPresent(
+          McpSessions.of(exchange),
+          (key, subscriber) ->
+              new Subscriber(
+                  now,
+                  subscriber.connection() != null
+                      ? subscriber.connection()
+                      : McpSessions.connection(exchange)));
+    }
+  }
+
+  /** Ends the subscriptions of sessions that have not been seen within the timeout. */
+  void expireSubscriptions() {
+    long expiredBefore = clock.getAsLong() - properties.subscriptionTimeout().toMillis();
+    synchronized (watchLock) {
+      List<Watch> watches = new ArrayList<>(streams.values());
+      watches.addAll(nodes.values());
+      for (Watch watch : watches) {
+        int before = watch.subscribers.size();
+        watch.subscribers.values().removeIf(subscriber -> subscriber.lastSeen() < expiredBefore);
+        expiredSubscriptions.addAndGet(before - watch.subscribers.size());
+        if (watch.subscribers.isEmpty()) {
+          release(watch);
+        }
+      }
+    }
+  }
+
+  private Watch find(String uri) {
+    for (AuditStream stream : streams.values()) {
+      if (stream.uri.equals(uri)) {
+        return stream;
+      }
+    }
+    for (NodeWatch watch : nodes.values()) {
+      if (watch.uri.equals(uri)) {
+        return watch;
+      }
+    }
+    return null;
+  }
+
+  /** Stops polling a watch nobody subscribes to any more. Called under the watch lock. */
+  private void release(Watch watch) {
+    if (watch instanceof AuditStream stream) {
+      streams.remove(stream.appId, stream);
+    } else if (watch instanceof NodeWatch nodeWatch) {
+      nodes.remove(nodeWatch.nodeId, nodeWatch);
+    }
+    unregister(watch.uri);
+  }
+
+  /** Polls every watched audit application and node once. */
+  void poll() {
+    expireSubscriptions();
+    for (AuditStream stream : streams.values()) {
+      try {
+        pollStream(stream);
+      } catch (Exception e) {
+        pollFailures.incrementAndGet();
+        log.warn("Polling audit application {} failed: {}", stream.appId, e.toString());
+      }
+    }
+    for (NodeWatch watch : nodes.values()) {
+      try {
+        pollNode(watch);
+      } catch (Exception e) {
+        pollFailures.incrementAndGet();
+        log.warn("Polling node {} failed: {}", watch.nodeId, e.toString());
+      }
+    }
+  }
+
+  private void pollStream(AuditStream stream) {
+    polls.incrementAndGet();
+    pollsShared.addAndGet(Math.max(0, stream.watchers() - 1));
+    AuditEntryPager pager =
+        new AuditEntryPager(
+            auditApi, upstream, stream.appId, null, stream.lastId, properties.pageSize(), true);
+    List<AuditEntry> received = new ArrayList<>();
+    while (pager.hasNext() && received.size() < properties.maxEntriesPerPoll()) {
+      upstreamRequests.incrementAndGet();
+      received.addAll(pager.nextPage());
+    }
+    if (!received.isEmpty()) {
+      stream.append(received, properties.bufferSize());
+      entriesSeen.addAndGet(received.size());
+      notifyUpdated(stream);
+    }
+  }
+
+  private void pollNode(NodeWatch watch) {
+    polls.incrementAndGet();
+    pollsShared.addAndGet(Math.max(0, watch.watchers() - 1));
+    Node node = fetchNode(watch.nodeId);
+    OffsetDateTime modifiedAt = node == null ? null : node.getModifiedAt();
+    if (!Objects.equals(modifiedAt, watch.modifiedAt)) {
+      watch.update(node);
+      notifyUpdated(watch);
+    }
+  }
+
+  private long latestAuditId(String appId) {
+    upstreamRequests.incrementAndGet();
+    ResponseEntity<AuditEntryPaging> response =
+        upstream.call(
+            () ->
+                auditApi.listAuditEntriesForAuditApp(
+                    appId, 0, Boolean.TRUE, List.of("createdAt DESC"), 1, null, null, null));
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      throw new IllegalStateException(
+          "Error retrieving audit entries: " + response.getStatusCode());
+    }
+    AuditEntryPaging paging = response.getBody();
+    List<AuditEntryEntry> entries =
+        paging == null || paging.getList() == null ? null : paging.getList().getEntries();
+    if (entries == null || entries.isEmpty() || entries.get(0).getEntry() == null) {
+      return 0;
+    }
+    Long id = entries.get(0).getEntry().getId();
+    return id == null ? 0 : id;
+  }
+
+  private Node fetchNode(String nodeId) {
+    upstreamRequests.incrementAndGet();
+    ResponseEntity<NodeEntry> response =
+        upstream.call(() -> nodesApi.getNode(nodeId, null, null, null));
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      throw new IllegalStateException("Error retrieving node: " + response.getStatusCode());
+    }
+    NodeEntry entry = response.getBody();
+    return entry == null ? null : entry.getEntry();
+  }
+
+  private String read(String uri, Object exchange) {
+    Watch watch = find(uri);
+    Object content = null;
+    if (watch instanceof AuditStream stream) {
+      content = stream.snapshot();
+    } else if (watch instanceof NodeWatch nodeWatch) {
+      content = nodeWatch.node;
+    }
+    if (watch != null) {
+      renew(watch, exchange);
+    }
+    try {
+      return objectMapper.writeValueAsString(content);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unable to serialize resource " + uri, e);
+    }
+  }
+
+  /** Lists a new watch as an MCP resource. Called under the watch lock. */
+  private void register(Watch watch) {
+    String uri = watch.uri;
+    McpSchema.Resource resource =
+        new McpSchema.Resource(uri, watch.name(), watch.description(), MIME_TYPE, null);
+    McpSyncServer sync = syncServer.getIfAvailable();
+    if (sync != null) {
+      sync.addResource(
+          new McpServerFeatures.SyncResourceSpecification(
+              resource, (exchange, request) -> readResult(uri, exchange)));
+      sync.notifyResourcesListChanged();
+      return;
+    }
+    McpAsyncServer async = asyncServer.getIfAvailable();
+    if (async != null) {
+      async
+          .addResource(
+              new McpServerFeatures.AsyncResourceSpecification(
+                  resource,
+                  (exchange, request) -> Mono.fromCallable(() -> readResult(uri, exchange))))
+          .then(async.notifyResourcesListChanged())
+          .block();
+    }
+  }
+
+  private void unregister(String uri) {
+    McpSyncServer sync = syncServer.getIfAvailable();
+    if (sync != null) {
+      sync.removeResource(uri);
+      sync.notifyResourcesListChanged();
+      return;
+    }
+    McpAsyncServer async = asyncServer.getIfAvailable();
+    if (async != null) {
+      async.removeResource(uri).then(async.notifyResourcesListChanged()).block();
+    }
+  }
+
+  private McpSchema.ReadResourceResult readResult(String uri, Object exchange) {
+    return new McpSchema.ReadResourceResult(
+        List.of(new McpSchema.TextResourceContents(uri, MIME_TYPE, read(uri, exchange))));
+  }
+
+  /**
+   * Tells the sessions subscribed to a watch that it changed. If the connection of a subscriber
+   * cannot be reached, the update is sent to all clients instead so that it is not lost.
+   */
+  private void notifyUpdated(Watch watch) {
+    Map<String, String> params = Map.of("uri", watch.uri);
+    List<McpSession> connections = new ArrayList<>();
+    boolean unreachable = false;
+    for (Subscriber subscriber : watch.subscribers.values()) {
+      if (subscriber.connection() == null) {
+        unreachable = true;
+      } else {
+        connections.add(subscriber.connection());
+      }
+    }
+    if (unreachable) {
+      McpServerTransportProvider provider = transportProvider.getIfAvailable();
+      if (provider != null) {
+        notifications.incrementAndGet();
+        provider
+            .notifyClients(RESOURCES_UPDATED, params)
+            .subscribe(null, e -> notifyFailed(watch, e));
+      }
+      return;
+    }
+    for (McpSession connection : connections) {
+      notifications.incrementAndGet();
+      connection
+          .sendNotification(RESOURCES_UPDATED, params)
+          .subscribe(null, e -> notifyFailed(watch, e));
+    }
+  }
+
+  private static void notifyFailed(Watch watch, Throwable e) {
+    log.warn("Notifying clients about {} failed: {}", watch.uri, e.toString());
+  }
+
+  @Override
+  public String getStatisticsName() {
+    return "resourceWatch";
+  }
+
+  @Override
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("auditApplications", streams.size());
+    statistics.put("nodes", nodes.size());
+    statistics.put(
+        "watchers",
+        streams.values().stream().mapToInt(Watch::watchers).sum()
+            + nodes.values().stream().mapToInt(Watch::watchers).sum());
+    statistics.put("expiredSubscriptions", expiredSubscriptions.get());
+    statistics.put("polls", polls.get());
+    statistics.put("pollsSharedByWatchers", pollsShared.get());
+    statistics.put("pollFailures", pollFailures.get());
+    statistics.put("upstreamRequests", upstreamRequests.get());
+    statistics.put("entriesSeen", entriesSeen.get());
+    statistics.put("notifications", notifications.get());
+    return statistics;
+  }
+
+  @Override
+  public void destroy() {
+    poller.shutdownNow();
+  }
+
+  private record Subscription<W extends Watch>(W watch, int watchers) {}
+
+  /** When a subscribed session was last seen, and the connection notifications reach it by. */
+  private record Subscriber(long lastSeen, McpSession connection) {}
+
+  /**
+   * A watched resource and its subscribers, keyed by session. Subscriptions are only changed under
+   * the watch lock.
+   */
+  private abstract static class Watch {
+
+    final String uri;
+    final Map<Object, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    Watch(String uri) {
+      this.uri = uri;
+    }
+
+    int watchers() {
+      return subscribers.size();
+    }
+
+    abstract String name();
+
+    abstract String description();
+  }
+
+  /** The recent audit entries of a watched audit application. */
+  private static final class AuditStream extends Watch {
+
+    private final String appId;
+    private final ArrayDeque<AuditEntry> recent = new ArrayDeque<>();
+    private volatile long lastId;
+
+    private AuditStream(String appId, long lastId) {
+      super("alfresco://audit-applications/" + appId + "/entries");
+      this.appId = appId;
+      this.lastId = lastId;
+    }
+
+    @Override
+    String name() {
+      return "Audit entries of " + appId;
+    }
+
+    @Override
+    String description() {
+      return "Most recent audit entries of " + appId;
+    }
+
+    private synchronized void append(List<AuditEntry> entries, int bufferSize) {
+      for (AuditEntry entry : entries) {
+        recent.addLast(entry);
+        lastId = Math.max(lastId, entry.getId());
+      }
+      while (recent.size() > bufferSize) {
+        recent.removeFirst();
+      }
+    }
+
+    private synchronized List<AuditEntry> entriesAfter(long afterId) {
+      return recent.stream().filter(entry -> entry.getId() > afterId).toList();
+    }
+
+    private synchronized Map<String, Object> snapshot() {
+      Map<String, Object> snapshot = new LinkedHashMap<>();
+      snapshot.put("appId", appId);
+      snapshot.put("lastId", lastId);
+      snapshot.put("entries", List.copyOf(recent));
+      return snapshot;
+    }
+  }
+
+  /** The last seen state of a watched node. */
+  private static final class NodeWatch extends Watch {
+
+    private final String nodeId;
+    private volatile Node node;
+    private volatile OffsetDateTime modifiedAt;
+
+    private NodeWatch(String nodeId, Node node) {
+      super("alfresco://nodes/" + nodeId);
+      this.nodeId = nodeId;
+      update(node);
+    }
+
+    @Override
+    String name() {
+      return "Node " + nodeId;
+    }
+
+    @Override
+    String description() {
+      return "Current metadata of node " + nodeId;
+    }
+
+    private void update(Node node) {
+      this.node = node;
+      this.modifiedAt = node == null ? null : node.getModifiedAt();
+    }
+  }
+}
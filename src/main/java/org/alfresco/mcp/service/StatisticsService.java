@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.alfresco.mcp.model.OperationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.stereotype.Service;
+
+@Service
+public class StatisticsService {
+
+  private static final Logger log = LoggerFactory.getLogger(StatisticsService.class);
+
+  private final List<StatisticsProvider> providers;
+
+  public StatisticsService(List<StatisticsProvider> providers) {
+    this.providers = providers;
+  }
+
+  @Tool(
+      name = "get_server_statistics",
+      description =
+          "Get runtime statistics of the Alfresco MCP server itself, such as in-flight and"
+              + " cancelled upstream calls to Alfresco Content Service.")
+  public OperationResponse<Object> getServerStatistics() {
+    log.info("Collecting server statistics");
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    for (StatisticsProvider provider : providers) {
+      statistics.put(provider.getStatisticsName(), provider.getStatistics());
+    }
+    return OperationResponse.builder().success(true).data(statistics).build();
+  }
+}
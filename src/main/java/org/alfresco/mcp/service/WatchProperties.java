@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls the shared poller behind watched audit applications and nodes.
+ *
+ * @param pollInterval the time between two polls of every watched audit application and node
+ * @param pageSize the number of audit entries requested from Alfresco per call
+ * @param maxEntriesPerPoll the maximum number of new audit entries read from one application per
+ *     poll; the rest is read by the next poll
+ * @param bufferSize the number of recent entries kept per watched audit application
+ * @param subscriptionTimeout the time after which the watch of a session that has not renewed it,
+ *     read the resource or asked for its entries lapses
+ */
+@ConfigurationProperties(prefix = "alfresco.mcp.watch")
+public record WatchProperties(
+    @DefaultValue("5s") Duration pollInterval,
+    @DefaultValue("200") int pageSize,
+    @DefaultValue("1000") int maxEntriesPerPoll,
+    @DefaultValue("500") int bufferSize,
+    @DefaultValue("30m") Duration subscriptionTimeout) {}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.tool;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.alfresco.mcp.cache.ToolResultCache;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+
+/** Serves a tool call from the {@link ToolResultCache} and caches successful results. */
+public class CachingToolCallback extends DelegatingToolCallback {
+
+  private final ToolResultCache cache;
+  private final ObjectMapper objectMapper;
+
+  public CachingToolCallback(
+      ToolCallback delegate, ToolResultCache cache, ObjectMapper objectMapper) {
+    super(delegate);
+    this.cache = cache;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String call(String toolInput, ToolContext toolContext) {
+    String toolName = toolName();
+    String cached = cache.get(toolName, toolInput);
+    if (cached != null) {
+      return cached;
+    }
+    String result = delegate.call(toolInput, toolContext);
+    if (isSuccess(result)) {
+      cache.put(toolName, toolInput, result);
+    }
+    return result;
+  }
+
+  private boolean isSuccess(String result) {
+    try {
+      return result != null && objectMapper.readTree(result).path("success").asBoolean(false);
+    } catch (JsonProcessingException e) {
+      return false;
+    }
+  }
+}
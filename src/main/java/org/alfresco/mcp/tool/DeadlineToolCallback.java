@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.tool;
+
+import org.alfresco.mcp.execution.CallContext;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+
+/**
+ * Runs a tool call inside a {@link CallContext} carrying the tool's configured deadline. The
+ * context is created on the thread running the tool, so interrupting that thread, which the MCP
+ * server does when it drops the request, cancels the call together with its upstream work. Any
+ * upstream work still in flight when the tool returns or fails is cancelled as well.
+ */
+public class DeadlineToolCallback extends DelegatingToolCallback {
+
+  private final ExecutionProperties properties;
+
+  public DeadlineToolCallback(ToolCallback delegate, ExecutionProperties properties) {
+    super(delegate);
+    this.properties = properties;
+  }
+
+  @Override
+  public String call(String toolInput, ToolContext toolContext) {
+    CallContext context = new CallContext(toolName(), properties.deadline(toolName()));
+    try (CallContext.Scope scope = context.attach()) {
+      return delegate.call(toolInput, toolContext);
+    } finally {
+      context.cancel();
+    }
+  }
+}
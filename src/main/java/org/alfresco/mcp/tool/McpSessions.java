@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.tool;
+
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSession;
+import java.lang.reflect.Field;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.mcp.McpToolUtils;
+
+/**
+ * Identifies the MCP client session a tool call or resource read belongs to. The SDK creates a new
+ * exchange for every request, but hands all exchanges of a session the client info object the
+ * session received when it was initialized. The identity of that object therefore stands for the
+ * session, and two clients reporting the same name and version are told apart.
+ */
+public final class McpSessions {
+
+  /** The session of calls made without an MCP exchange, such as calls from within the server. */
+  public static final Object DEFAULT = "default";
+
+  private static final Field SYNC_EXCHANGE = field(McpSyncServerExchange.class, "exchange");
+  private static final Field ASYNC_SESSION = field(McpAsyncServerExchange.class, "session");
+
+  private McpSessions() {}
+
+  public static Object of(ToolContext toolContext) {
+    return of(exchange(toolContext));
+  }
+
+  /** Returns the MCP exchange of a tool call, or {@code null} for calls made without one. */
+  public static Object exchange(ToolContext toolContext) {
+    if (toolContext == null || toolContext.getContext() == null) {
+      return null;
+    }
+    return toolContext.getContext().get(McpToolUtils.TOOL_CONTEXT_MCP_EXCHANGE_KEY);
+  }
+
+  /**
+   * Returns the connection behind a sync or async exchange, through which a notification reaches
+   * that one client, or {@code null} if it cannot be reached. SDK 0.10 offers no public way to
+   * notify a single session, so the session is read from the exchange.
+   */
+  public static McpSession connection(Object exchange) {
+    Object asyncExchange = exchange;
+    if (exchange instanceof McpSyncServerExchange && SYNC_EXCHANGE != null) {
+      asyncExchange = read(SYNC_EXCHANGE, exchange);
+    }
+    if (asyncExchange instanceof McpAsyncServerExchange && ASYNC_SESSION != null) {
+      return read(ASYNC_SESSION, asyncExchange) instanceof McpSession session ? session : null;
+    }
+    return null;
+  }
+
+  /** Returns the session key of a sync or async exchange. */
+  public static Object of(Object exchange) {
+    McpSchema.Implementation clientInfo = null;
+    if (exchange instanceof McpSyncServerExchange syncExchange) {
+      clientInfo = syncExchange.getClientInfo();
+    } else if (exchange instanceof McpAsyncServerExchange asyncExchange) {
+      clientInfo = asyncExchange.getClientInfo();
+    }
+    return clientInfo == null ? DEFAULT : new SessionKey(clientInfo);
+  }
+
+  private static Field field(Class<?> type, String name) {
+    try {
+      Field field = type.getDeclaredField(name);
+      field.setAccessible(true);
+      return field;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static Object read(Field field, Object target) {
+    try {
+      return field.get(target);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /** Compares client info objects by identity rather than by value. */
+  private record SessionKey(McpSchema.Implementation clientInfo) {
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof SessionKey key && key.clientInfo == clientInfo;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(clientInfo);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.tool;
+
+import org.alfresco.mcp.logging.PayloadLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+
+/**
+ * Writes one structured line per tool call (tool name, outcome, elapsed time and payload sizes).
+ * The tool input and result are only logged at DEBUG, sampled and truncated by the {@link
+ * PayloadLogger}.
+ */
+public class ObservedToolCallback extends DelegatingToolCallback {
+
+  private static final Logger log = LoggerFactory.getLogger(ObservedToolCallback.class);
+
+  public static final String MDC_TOOL = "tool";
+
+  private final PayloadLogger payloadLogger;
+
+  public ObservedToolCallback(ToolCallback delegate, PayloadLogger payloadLogger) {
+    super(delegate);
+    this.payloadLogger = payloadLogger;
+  }
+
+  @Override
+  public String call(String toolInput, ToolContext toolContext) {
+    String toolName = toolName();
+    long start = System.nanoTime();
+    MDC.put(MDC_TOOL, toolName);
+    try (PayloadLogger.Scope sample = payloadLogger.sample(toolName)) {
+      payloadLogger.debug(log, "Tool input: {}", toolInput);
+      String result = delegate.call(toolInput, toolContext);
+      log.info(
+          "tool={} status=ok elapsedMs={} inputChars={} resultChars={}",
+          toolName,
+          elapsedMillis(start),
+          toolInput == null ? 0 : toolInput.length(),
+          result == null ? 0 : result.length());
+      payloadLogger.debug(log, "Tool result: {}", result);
+      return result;
+    } catch (RuntimeException e) {
+      log.warn(
+          "tool={} status=error elapsedMs={} error={}",
+          toolName,
+          elapsedMillis(start),
+          e.toString());
+      throw e;
+    } finally {
+      MDC.remove(MDC_TOOL);
+    }
+  }
+
+  private static long elapsedMillis(long start) {
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
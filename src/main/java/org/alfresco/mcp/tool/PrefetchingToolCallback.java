@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.tool;
+
+import org.alfresco.mcp.prefetch.NodePrefetcher;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+
+/**
+ * Hands the result of a tool call to the {@link NodePrefetcher}, which warms the cache for nodes
+ * the result refers to and records whether earlier prefetches are used.
+ */
+public class PrefetchingToolCallback extends DelegatingToolCallback {
+
+  private final NodePrefetcher prefetcher;
+
+  public PrefetchingToolCallback(ToolCallback delegate, NodePrefetcher prefetcher) {
+    super(delegate);
+    this.prefetcher = prefetcher;
+  }
+
+  @Override
+  public String call(String toolInput, ToolContext toolContext) {
+    String result = delegate.call(toolInput, toolContext);
+    prefetcher.afterCall(toolName(), toolInput, result);
+    return result;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.tool;
+
+import org.alfresco.mcp.scheduling.ToolScheduler;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+
+/**
+ * Runs a tool call once the {@link ToolScheduler} admits it into the tool's lane. Sits inside the
+ * deadline so time spent queueing counts against the call's deadline.
+ */
+public class ScheduledToolCallback extends DelegatingToolCallback {
+
+  private final ToolScheduler scheduler;
+
+  public ScheduledToolCallback(ToolCallback delegate, ToolScheduler scheduler) {
+    super(delegate);
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public String call(String toolInput, ToolContext toolContext) {
+    try (ToolScheduler.Permit permit = scheduler.acquire(toolName(), toolContext)) {
+      return delegate.call(toolInput, toolContext);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.tool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import org.alfresco.mcp.async.AsyncAuditTools;
+import org.alfresco.mcp.cache.ToolResultCache;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.logging.PayloadLogger;
+import org.alfresco.mcp.prefetch.NodePrefetcher;
+import org.alfresco.mcp.scheduling.ToolScheduler;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the {@link ToolCallbackProvider} for a tool object and wraps each of its callbacks with
+ * the cross-cutting behaviour shared by all tools. In asynchronous mode the tools that have a
+ * non-blocking implementation in {@link AsyncAuditTools} are left out.
+ */
+@Component
+public class ToolCallbackDecorator {
+
+  private final PayloadLogger payloadLogger;
+  private final ExecutionProperties executionProperties;
+  private final ToolResultCache toolResultCache;
+  private final ObjectMapper objectMapper;
+  private final ToolScheduler toolScheduler;
+  private final NodePrefetcher nodePrefetcher;
+  private final boolean asyncMode;
+
+  public ToolCallbackDecorator(
+      PayloadLogger payloadLogger,
+      ExecutionProperties executionProperties,
+      ToolResultCache toolResultCache,
+      ObjectMapper objectMapper,
+      ToolScheduler toolScheduler,
+      NodePrefetcher nodePrefetcher,
+      @Value("${spring.ai.mcp.server.type:SYNC}") String serverType) {
+    this.payloadLogger = payloadLogger;
+    this.executionProperties = executionProperties;
+    this.toolResultCache = toolResultCache;
+    this.objectMapper = objectMapper;
+    this.toolScheduler = toolScheduler;
+    this.nodePrefetcher = nodePrefetcher;
+    this.asyncMode = "ASYNC".equalsIgnoreCase(serverType);
+  }
+
+  public ToolCallbackProvider decorate(Object toolObject) {
+    ToolCallback[] toolCallbacks =
+        Arrays.stream(
+                MethodToolCallbackProvider.builder()
+                    .toolObjects(toolObject)
+                    .build()
+                    .getToolCallbacks())
+            .filter(
+                toolCallback ->
+                    !asyncMode
+                        || !AsyncAuditTools.TOOL_NAMES.contains(
+                            toolCallback.getToolDefinition().name()))
+            .map(this::decorate)
+            .toArray(ToolCallback[]::new);
+    return () -> toolCallbacks;
+  }
+
+  public ToolCallback decorate(ToolCallback toolCallback) {
+    ToolCallback decorated = toolCallback;
+    if (toolScheduler.isEnabled()) {
+      decorated = new ScheduledToolCallback(decorated, toolScheduler);
+    }
+    decorated = new DeadlineToolCallback(decorated, executionProperties);
+    if (toolResultCache.isCached(toolCallback.getToolDefinition().name())) {
+      decorated = new CachingToolCallback(decorated, toolResultCache, objectMapper);
+    }
+    if (nodePrefetcher.isObserved(toolCallback.getToolDefinition().name())) {
+      decorated = new PrefetchingToolCallback(decorated, nodePrefetcher);
+    }
+    return new ObservedToolCallback(decorated, payloadLogger);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SketchesTest {
+
+  @Test
+  void hyperLogLogEstimatesDistinctCount() {
+    HyperLogLog hyperLogLog = new HyperLogLog(14);
+    for (int i = 0; i < 100_000; i++) {
+      hyperLogLog.add("user-" + (i % 20_000));
+    }
+
+    assertThat(hyperLogLog.estimate()).isCloseTo(20_000L, within(20_000L * 3 / 100));
+  }
+
+  @Test
+  void heavyHittersFindMostFrequentValues() {
+    HeavyHitters heavyHitters = new HeavyHitters(3, 0.001, 0.01);
+    Random random = new Random(42);
+    for (int i = 0; i < 50_000; i++) {
+      heavyHitters.add("noise-" + random.nextInt(10_000));
+      if (i % 5 == 0) {
+        heavyHitters.add("admin");
+      }
+      if (i % 10 == 0) {
+        heavyHitters.add("jbloggs");
+      }
+    }
+
+    List<HeavyHitters.HeavyHitter> top = heavyHitters.top();
+    assertThat(top).extracting(HeavyHitters.HeavyHitter::value).startsWith("admin", "jbloggs");
+    assertThat(top.get(0).count()).isBetween(10_000L, 10_000L + top.get(0).maxOverestimate());
+  }
+
+  @Test
+  void tDigestEstimatesQuantiles() {
+    TDigest digest = new TDigest(100);
+    for (int i = 1; i <= 100_000; i++) {
+      digest.add(i);
+    }
+
+    assertThat(digest.count()).isEqualTo(100_000L);
+    assertThat(digest.quantile(0.5)).isCloseTo(50_000, within(1_000.0));
+    assertThat(digest.quantile(0.99)).isCloseTo(99_000, within(200.0));
+    assertThat(digest.quantile(0)).isEqualTo(1);
+    assertThat(digest.quantile(1)).isEqualTo(100_000);
+  }
+}
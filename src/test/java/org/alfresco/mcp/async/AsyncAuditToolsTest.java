@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.mcp.cache.ToolResultCache;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.logging.LoggingProperties;
+import org.alfresco.mcp.logging.PayloadLogger;
+import org.alfresco.mcp.scheduling.ToolScheduler;
+import org.alfresco.mcp.service.AuditService;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class AsyncAuditToolsTest {
+
+  private static final String APP = "alfresco-access";
+
+  private final AlfrescoAsyncClient client = mock(AlfrescoAsyncClient.class);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void upstreamFailuresAreReportedLikeTheBlockingTools() throws Exception {
+    when(client.listAuditEntriesForAuditApp(APP, 5, null))
+        .thenReturn(Mono.error(new IllegalStateException("Request failed with status 500")));
+
+    JsonNode response = call(Duration.ofSeconds(60));
+
+    assertThat(response.get("success").asBoolean()).isFalse();
+    assertThat(response.get("data")).isEmpty();
+    assertThat(response.get("messages").get(0).asText())
+        .isEqualTo("Error retrieving audit entries: Request failed with status 500");
+  }
+
+  @Test
+  void deadlinesAreReportedLikeTheBlockingTools() throws Exception {
+    when(client.listAuditEntriesForAuditApp(APP, 5, null)).thenReturn(Mono.never());
+
+    JsonNode response = call(Duration.ofMillis(50));
+
+    assertThat(response.get("success").asBoolean()).isFalse();
+    assertThat(response.get("messages").get(0).asText())
+        .isEqualTo(
+            "Error retrieving audit entries: Tool call get_x_audit_entries exceeded its deadline");
+  }
+
+  private JsonNode call(Duration deadline) throws Exception {
+    ToolScheduler toolScheduler = mock(ToolScheduler.class);
+    ToolResultCache toolResultCache = mock(ToolResultCache.class);
+    List<AsyncToolSpecification> specifications =
+        new AsyncAuditTools()
+            .asyncAuditToolSpecifications(
+                new AuditService(mock(AuditApi.class), null, null, null, null, null),
+                client,
+                objectMapper,
+                new ExecutionProperties(
+                    Duration.ofSeconds(60),
+                    Map.of("get_x_audit_entries", deadline),
+                    1,
+                    8,
+                    Duration.ofSeconds(10)),
+                toolScheduler,
+                toolResultCache,
+                new PayloadLogger(new LoggingProperties(2048, 1.0, Map.of())));
+    AsyncToolSpecification specification =
+        specifications.stream()
+            .filter(candidate -> candidate.tool().name().equals("get_x_audit_entries"))
+            .findFirst()
+            .orElseThrow();
+
+    McpSchema.CallToolResult result =
+        specification.call().apply(null, Map.of("appId", APP, "limit", 5)).block();
+
+    assertThat(result.isError()).isFalse();
+    return objectMapper.readTree(((McpSchema.TextContent) result.content().get(0)).text());
+  }
+}
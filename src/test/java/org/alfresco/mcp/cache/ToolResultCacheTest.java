@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.alfresco.discovery.handler.DiscoveryApi;
+import org.alfresco.discovery.model.DiscoveryEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+
+class ToolResultCacheTest {
+
+  private static final String TOOL = "get_node_entry_by_id";
+  private static final String INPUT = "{\"nodeId\":\"1\"}";
+
+  @TempDir Path directory;
+
+  @Test
+  void servesResultsOfAnEarlierProcessOnceTheVersionIsConfirmed() throws Exception {
+    ToolResultCache first = cache(repository("7.4.0"));
+    awaitRevalidation(first);
+    first.put(TOOL, INPUT, "result");
+    first.destroy();
+
+    CountDownLatch release = new CountDownLatch(1);
+    DiscoveryApi slowDiscovery = mock(DiscoveryApi.class);
+    ResponseEntity<DiscoveryEntry> response = ResponseEntity.ok(discovery("7.4.0"));
+    when(slowDiscovery.getRepositoryInformation())
+        .thenAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return response;
+            });
+    ToolResultCache second = cache(slowDiscovery);
+
+    // Argument order does not matter, but the entry is not served before revalidation
+    assertThat(second.get(TOOL, "{ \"nodeId\" : \"1\" }")).isNull();
+    release.countDown();
+    awaitRevalidation(second);
+
+    assertThat(second.get(TOOL, INPUT)).isEqualTo("result");
+    assertThat(second.getStatistics())
+        .containsEntry("loadedFromDisk", 1L)
+        .containsEntry("invalidatedByVersion", 0L);
+    second.destroy();
+  }
+
+  @Test
+  void dropsResultsOfAnotherRepositoryVersion() throws Exception {
+    ToolResultCache first = cache(repository("7.3.0"));
+    awaitRevalidation(first);
+    first.put(TOOL, INPUT, "result");
+    first.destroy();
+
+    ToolResultCache second = cache(repository("7.4.0"));
+    assertThat(second.get(TOOL, INPUT)).isNull();
+    awaitRevalidation(second);
+
+    assertThat(second.get(TOOL, INPUT)).isNull();
+    assertThat(second.getStatistics()).containsEntry("invalidatedByVersion", 1L);
+    second.destroy();
+  }
+
+  @Test
+  void ignoresACorruptFileAndReplacesIt() throws Exception {
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file()))) {
+      out.writeInt(0x414d4331);
+      out.writeInt(1);
+      out.writeInt(Integer.MAX_VALUE);
+    }
+
+    ToolResultCache cache = cache(repository("7.4.0"));
+    awaitRevalidation(cache);
+    assertThat(cache.get(TOOL, INPUT)).isNull();
+    assertThat(cache.getStatistics()).containsEntry("loadedFromDisk", 0L);
+
+    cache.put(TOOL, INPUT, "result");
+    cache.destroy();
+
+    ToolResultCache next = cache(repository("7.4.0"));
+    next.get(TOOL, INPUT);
+    awaitRevalidation(next);
+    assertThat(next.get(TOOL, INPUT)).isEqualTo("result");
+    try (var files = Files.list(directory)) {
+      assertThat(files).containsExactly(file());
+    }
+    next.destroy();
+  }
+
+  private ToolResultCache cache(DiscoveryApi discoveryApi) {
+    CacheProperties properties =
+        new CacheProperties(
+            true, file().toString(), Duration.ofHours(1), 100, Map.of(TOOL, Duration.ofMinutes(5)));
+    return new ToolResultCache(
+        properties, discoveryApi, new ObjectMapper(), "http://localhost:8080", "admin");
+  }
+
+  private Path file() {
+    return directory.resolve("tool-cache.bin");
+  }
+
+  private static DiscoveryApi repository(String version) {
+    ResponseEntity<DiscoveryEntry> response = ResponseEntity.ok(discovery(version));
+    DiscoveryApi discoveryApi = mock(DiscoveryApi.class);
+    when(discoveryApi.getRepositoryInformation()).thenReturn(response);
+    return discoveryApi;
+  }
+
+  private static DiscoveryEntry discovery(String version) {
+    DiscoveryEntry entry = mock(DiscoveryEntry.class, RETURNS_DEEP_STUBS);
+    when(entry.getEntry().getRepository().getVersion().getDisplay()).thenReturn(version);
+    return entry;
+  }
+
+  /** Triggers loading and waits until the background revalidation has completed. */
+  private static void awaitRevalidation(ToolResultCache cache) throws InterruptedException {
+    cache.contains(TOOL, INPUT);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (System.nanoTime() < deadline) {
+      Map<String, Object> statistics = cache.getStatistics();
+      if (statistics.get("repositoryVersion") != null
+          && Integer.valueOf(0).equals(statistics.get("awaitingRevalidation"))) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    throw new IllegalStateException("Tool cache was not revalidated in time");
+  }
+}
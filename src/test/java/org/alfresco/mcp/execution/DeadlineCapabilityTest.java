@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class DeadlineCapabilityTest {
+
+  private final AtomicReference<Request.Options> sent = new AtomicReference<>();
+  private final Client client =
+      new DeadlineCapability()
+          .enrich(
+              (Client)
+                  (request, options) -> {
+                    sent.set(options);
+                    return Response.builder().status(200).request(request).build();
+                  });
+
+  @Test
+  void keepsConfiguredTimeoutsOutsideOfToolCalls() throws Exception {
+    Request.Options options = options(10_000, 60_000);
+
+    client.execute(request(), options);
+
+    assertThat(sent.get()).isSameAs(options);
+  }
+
+  @Test
+  void lowersTimeoutsToTheTimeLeftInTheToolCall() throws Exception {
+    CallContext context = new CallContext("audit_tool", Duration.ofSeconds(2));
+
+    try (CallContext.Scope scope = context.attach()) {
+      client.execute(request(), options(10_000, 0));
+    }
+
+    assertThat(sent.get().connectTimeoutMillis()).isBetween(1, 2_000);
+    assertThat(sent.get().readTimeoutMillis()).isBetween(1, 2_000);
+  }
+
+  @Test
+  void keepsShorterConfiguredTimeouts() throws Exception {
+    CallContext context = new CallContext("audit_tool", Duration.ofSeconds(60));
+
+    try (CallContext.Scope scope = context.attach()) {
+      client.execute(request(), options(500, 1_000));
+    }
+
+    assertThat(sent.get().connectTimeoutMillis()).isEqualTo(500);
+    assertThat(sent.get().readTimeoutMillis()).isEqualTo(1_000);
+  }
+
+  @Test
+  void doesNotSendRequestsOfCancelledCalls() {
+    CallContext context = new CallContext("audit_tool", Duration.ofSeconds(60));
+    context.cancel();
+
+    try (CallContext.Scope scope = context.attach()) {
+      assertThatThrownBy(() -> client.execute(request(), options(10_000, 60_000)))
+          .isInstanceOf(CallAbortedException.class);
+    }
+    assertThat(sent.get()).isNull();
+  }
+
+  private static Request request() {
+    return Request.create(
+        Request.HttpMethod.GET,
+        "http://localhost/alfresco",
+        Map.of(),
+        null,
+        StandardCharsets.UTF_8,
+        null);
+  }
+
+  private static Request.Options options(long connectMillis, long readMillis) {
+    return new Request.Options(
+        connectMillis, TimeUnit.MILLISECONDS, readMillis, TimeUnit.MILLISECONDS, true);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamExecutorTest {
+
+  private final UpstreamExecutor upstream =
+      new UpstreamExecutor(
+          new ExecutionProperties(Duration.ofSeconds(60), Map.of(), 1, 8, Duration.ofSeconds(10)));
+
+  @AfterEach
+  void shutDown() {
+    upstream.destroy();
+  }
+
+  @Test
+  void deadlineInterruptsUpstreamCall() throws InterruptedException {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CallContext context = new CallContext("slow_tool", Duration.ofMillis(100));
+
+    try (CallContext.Scope scope = context.attach()) {
+      assertThatThrownBy(() -> upstream.call(() -> sleep(interrupted)))
+          .isInstanceOf(CallAbortedException.class)
+          .hasMessageContaining("deadline");
+    }
+
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(upstream.getStatistics())
+        .containsEntry("cancelledInFlight", 1L)
+        .containsEntry("cancelledQueued", 0L);
+  }
+
+  @Test
+  void cancellingTheCallCountsRunningAndQueuedWork() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CallContext context = new CallContext("fan_out_tool", Duration.ofSeconds(60));
+
+    Future<Object> running;
+    Future<Object> queued;
+    try (CallContext.Scope scope = context.attach()) {
+      running =
+          upstream.submit(
+              () -> {
+                started.countDown();
+                return sleep(interrupted);
+              });
+      queued = upstream.submit(() -> "never runs");
+    }
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    context.cancel();
+
+    assertThat(running.isCancelled()).isTrue();
+    assertThat(queued.isCancelled()).isTrue();
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(upstream.getStatistics())
+        .containsEntry("cancelledInFlight", 1L)
+        .containsEntry("cancelledQueued", 1L);
+    assertThatThrownBy(context::checkActive).isInstanceOf(CallAbortedException.class);
+  }
+
+  @Test
+  void interruptingTheToolThreadCancelsTheWholeCall() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch submitted = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicReference<CallContext> context = new AtomicReference<>();
+    AtomicReference<Future<Object>> queued = new AtomicReference<>();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    Thread toolThread =
+        new Thread(
+            () -> {
+              context.set(new CallContext("dropped_tool", Duration.ofSeconds(60)));
+              try (CallContext.Scope scope = context.get().attach()) {
+                Future<Object> running =
+                    upstream.submit(
+                        () -> {
+                          started.countDown();
+                          return sleep(interrupted);
+                        });
+                queued.set(upstream.submit(() -> "never runs"));
+                submitted.countDown();
+                upstream.await(running);
+              } catch (RuntimeException e) {
+                failure.set(e);
+              }
+            });
+    toolThread.start();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    toolThread.interrupt();
+    toolThread.join(5_000);
+
+    assertThat(failure.get())
+        .isInstanceOf(CallAbortedException.class)
+        .hasMessageContaining("cancelled");
+    assertThat(context.get().isCancelled()).isTrue();
+    assertThat(queued.get().isCancelled()).isTrue();
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private static Object sleep(CountDownLatch interrupted) {
+    try {
+      Thread.sleep(10_000);
+      return "finished";
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+  @Test
+  void findsNamesExactlyByPrefixAndFuzzily() {
+    NameIndex index = new NameIndex();
+    index.put("1", "Quarterly Report 2024.pdf", "/Company Home/Shared");
+    index.put("2", "Quarterly Budget.xlsx", "/Company Home/Shared");
+    index.put("3", "Minutes.docx", "/Company Home/Sites/board");
+
+    assertThat(index.exact("quarterly report 2024.PDF", 10))
+        .extracting(NameIndex.Match::nodeId)
+        .containsExactly("1");
+    assertThat(index.prefix("Quarterly", 10))
+        .extracting(NameIndex.Match::nodeId)
+        .containsExactly("2", "1");
+    assertThat(index.fuzzy("quartely reprot 2024", 10, 0.3))
+        .extracting(NameIndex.Match::nodeId)
+        .first()
+        .isEqualTo("1");
+  }
+
+  @Test
+  void followsRenamesAndDeletes() {
+    NameIndex index = new NameIndex();
+    index.put("1", "draft.docx", "/Company Home");
+    index.put("1", "final.docx", "/Company Home");
+
+    assertThat(index.exact("draft.docx", 10)).isEmpty();
+    assertThat(index.exact("final.docx", 10))
+        .extracting(NameIndex.Match::nodeId)
+        .containsExactly("1");
+
+    assertThat(index.remove("1")).isTrue();
+    assertThat(index.exact("final.docx", 10)).isEmpty();
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  void movesAndRemovesTheFilesBelowAFolder() {
+    NameIndex index = new NameIndex();
+    index.put("1", "a.txt", "/Company Home/Projects");
+    index.put("2", "b.txt", "/Company Home/Projects/2024");
+    index.put("3", "c.txt", "/Company Home/Projects 2");
+
+    assertThat(index.movePath("/Company Home/Projects", "/Company Home/Archive")).isEqualTo(2);
+    assertThat(index.exact("b.txt", 10))
+        .extracting(NameIndex.Match::path)
+        .containsExactly("/Company Home/Archive/2024");
+    assertThat(index.exact("c.txt", 10))
+        .extracting(NameIndex.Match::path)
+        .containsExactly("/Company Home/Projects 2");
+
+    assertThat(index.movePath("/Company Home/Archive", null)).isEqualTo(2);
+    assertThat(index.exact("a.txt", 10)).isEmpty();
+    assertThat(index.size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.client.transport.StdioClientTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Drives concurrent MCP clients against a {@link MockAlfrescoServer}, and writes a JSON report with
+ * throughput, per-tool latency percentiles and server heap and thread usage. Each client owns its
+ * own connection and, as with any stdio MCP server, that connection launches its own server
+ * process, so every simulated client is a separate session. Run it through the {@code loadtest}
+ * Maven profile, or directly:
+ *
+ * <pre>
+ * LoadTestRunner --jar target/alfresco-mcp-0.0.1-SNAPSHOT.jar --clients 32 --duration 60s
+ * </pre>
+ */
+public class LoadTestRunner {
+
+  private static final Map<String, String> DEFAULTS =
+      Map.ofEntries(
+          Map.entry("clients", "16"),
+          Map.entry("duration", "60s"),
+          Map.entry("warmup", "10s"),
+          Map.entry("mix", ToolMix.DEFAULT),
+          Map.entry("latency-median-ms", "50"),
+          Map.entry("latency-sigma", "0.5"),
+          Map.entry("error-rate", "0.0"),
+          Map.entry("payloads", ""),
+          Map.entry("server-type", "SYNC"),
+          Map.entry("java-options", "-Xmx256m"),
+          Map.entry("request-timeout", "120s"),
+          Map.entry("report", "target/loadtest/report.json"));
+
+  private final Map<String, String> options;
+  private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+  LoadTestRunner(Map<String, String> options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new TreeMap<>(DEFAULTS);
+    for (int i = 0; i < args.length; i++) {
+      if (!args[i].startsWith("--") || i + 1 >= args.length) {
+        throw new IllegalArgumentException("Expected --name value, got " + args[i]);
+      }
+      options.put(args[i].substring(2), args[++i]);
+    }
+    if (!options.containsKey("jar")) {
+      throw new IllegalArgumentException("--jar <path to the server jar> is required");
+    }
+    new LoadTestRunner(options).run();
+  }
+
+  void run() throws Exception {
+    int clients = Integer.parseInt(options.get("clients"));
+    Duration duration = duration(options.get("duration"));
+    Duration warmup = duration(options.get("warmup"));
+    ToolMix mix = new ToolMix(options.get("mix"));
+    Path report = Path.of(options.get("report"));
+    Files.createDirectories(report.toAbsolutePath().getParent());
+
+    try (MockAlfrescoServer mock =
+        new MockAlfrescoServer(
+            0,
+            Double.parseDouble(options.get("latency-median-ms")),
+            Double.parseDouble(options.get("latency-sigma")),
+            Double.parseDouble(options.get("error-rate")),
+            options.get("payloads").isBlank() ? null : Path.of(options.get("payloads")))) {
+      mock.start();
+
+      List<McpSyncClient> sessions = new ArrayList<>();
+      List<ServerResources> resources = new ArrayList<>();
+      ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+      try {
+        for (int i = 0; i < clients; i++) {
+          Set<Long> before = children();
+          sessions.add(startServer(i, mock.url(), report.getParent()));
+          Set<Long> started = children();
+          started.removeAll(before);
+          started.stream().findFirst().ifPresent(pid -> resources.add(new ServerResources(pid)));
+        }
+        sampler.scheduleAtFixedRate(
+            () -> resources.forEach(ServerResources::sample), 0, 500, TimeUnit.MILLISECONDS);
+
+        long mockRequestsBefore = mock.requests();
+        Instant measureFrom = Instant.now().plus(warmup);
+        Instant end = measureFrom.plus(duration);
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+          McpSyncClient client = sessions.get(c);
+          Thread worker =
+              new Thread(() -> drive(client, mix, measureFrom, end, done), "loadtest-client-" + c);
+          worker.setDaemon(true);
+          worker.start();
+        }
+        done.await();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", Instant.now().toString());
+        result.put("config", options);
+        result.put("totals", totals(duration));
+        result.put("tools", tools());
+        result.put("servers", resources.stream().map(ServerResources::report).toList());
+        result.put("mockRequests", mock.requests() - mockRequestsBefore);
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(report.toFile(), result);
+        System.out.println("Load test report written to " + report.toAbsolutePath());
+        System.out.println(result.get("totals"));
+      } finally {
+        sampler.shutdownNow();
+        resources.forEach(ServerResources::close);
+        sessions.forEach(McpSyncClient::closeGracefully);
+      }
+    }
+  }
+
+  private McpSyncClient startServer(int index, String mockUrl, Path outputDirectory) {
+    List<String> args = new ArrayList<>();
+    for (String option : options.get("java-options").trim().split("\\s+")) {
+      if (!option.isEmpty()) {
+        args.add(option);
+      }
+    }
+    args.addAll(
+        List.of(
+            "-jar",
+            options.get("jar"),
+            "--spring.ai.mcp.server.stdio=true",
+            "--spring.ai.mcp.server.type=" + options.get("server-type"),
+            "--content.service.url=" + mockUrl,
+            "--content.service.security.basicAuth.username=admin",
+            "--content.service.security.basicAuth.password=admin",
+            "--alfresco.mcp.cache.enabled=false",
+            "--logging.file.name=" + outputDirectory.resolve("server-" + index + ".log")));
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    McpSyncClient client =
+        McpClient.sync(new StdioClientTransport(ServerParameters.builder(java).args(args).build()))
+            .requestTimeout(duration(options.get("request-timeout")))
+            .build();
+    client.initialize();
+    return client;
+  }
+
+  private void drive(
+      McpSyncClient client, ToolMix mix, Instant measureFrom, Instant end, CountDownLatch done) {
+    try {
+      while (Instant.now().isBefore(end)) {
+        String tool = mix.nextTool();
+        boolean measured = !Instant.now().isBefore(measureFrom);
+        long start = System.nanoTime();
+        boolean failed;
+        try {
+          McpSchema.CallToolResult result =
+              client.callTool(new McpSchema.CallToolRequest(tool, mix.arguments(tool)));
+          failed = Boolean.TRUE.equals(result.isError());
+        } catch (RuntimeException e) {
+          failed = true;
+        }
+        if (measured) {
+          recorders
+              .computeIfAbsent(tool, t -> new LatencyRecorder())
+              .record(System.nanoTime() - start, failed);
+        }
+      }
+    } finally {
+      done.countDown();
+    }
+  }
+
+  private Map<String, Object> totals(Duration duration) {
+    long calls = recorders.values().stream().mapToLong(LatencyRecorder::calls).sum();
+    long errors = recorders.values().stream().mapToLong(LatencyRecorder::errors).sum();
+    Map<String, Object> totals = new LinkedHashMap<>();
+    totals.put("calls", calls);
+    totals.put("errors", errors);
+    totals.put("throughputPerSecond", calls * 1000.0 / duration.toMillis());
+    return totals;
+  }
+
+  private Map<String, Object> tools() {
+    Map<String, Object> tools = new TreeMap<>();
+    recorders.forEach((tool, recorder) -> tools.put(tool, recorder.summary()));
+    return tools;
+  }
+
+  private static Set<Long> children() {
+    return ProcessHandle.current()
+        .children()
+        .map(ProcessHandle::pid)
+        .collect(Collectors.toCollection(HashSet::new));
+  }
+
+  private static Duration duration(String value) {
+    String lower = value.trim().toLowerCase();
+    if (lower.endsWith("ms")) {
+      return Duration.ofMillis(Long.parseLong(lower.substring(0, lower.length() - 2)));
+    }
+    if (lower.endsWith("s")) {
+      return Duration.ofSeconds(Long.parseLong(lower.substring(0, lower.length() - 1)));
+    }
+    if (lower.endsWith("m")) {
+      return Duration.ofMinutes(Long.parseLong(lower.substring(0, lower.length() - 1)));
+    }
+    return Duration.parse(value);
+  }
+
+  /** Collects the latencies of one tool; exact percentiles are fine at load test volumes. */
+  static final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int calls;
+    private long errors;
+
+    synchronized void record(long nanos, boolean failed) {
+      if (calls == latencies.length) {
+        latencies = Arrays.copyOf(latencies, calls * 2);
+      }
+      latencies[calls++] = nanos;
+      if (failed) {
+        errors++;
+      }
+    }
+
+    synchronized long calls() {
+      return calls;
+    }
+
+    synchronized long errors() {
+      return errors;
+    }
+
+    synchronized Map<String, Object> summary() {
+      long[] sorted = Arrays.copyOf(latencies, calls);
+      Arrays.sort(sorted);
+      Map<String, Object> summary = new LinkedHashMap<>();
+      summary.put("calls", calls);
+      summary.put("errors", errors);
+      summary.put("meanMs", calls == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1e6);
+      summary.put("p50Ms", percentile(sorted, 0.50));
+      summary.put("p95Ms", percentile(sorted, 0.95));
+      summary.put("p99Ms", percentile(sorted, 0.99));
+      summary.put("maxMs", calls == 0 ? 0 : sorted[calls - 1] / 1e6);
+      return summary;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(quantile * sorted.length) - 1;
+      return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+  }
+}
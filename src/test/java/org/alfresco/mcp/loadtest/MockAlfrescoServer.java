@@ -0,0 +1,380 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A stand-in for Alfresco Content Service that answers the REST calls made by the MCP server with
+ * generated payloads of realistic shape and size, after a log-normally distributed delay and with a
+ * configurable error rate. Payloads can be replaced by recorded responses: a file named after the
+ * route (for example {@code audit-entries.json}) in the payload directory is served as is.
+ */
+public class MockAlfrescoServer implements AutoCloseable {
+
+  /** Node ids used in generated payloads, so scripted tool calls can refer to existing nodes. */
+  public static final int NODE_COUNT = 500;
+
+  private static final Pattern ROUTE =
+      Pattern.compile(
+          ".*/(probes)/([^/]+)"
+              + "|.*/(audit-applications)"
+              + "|.*/audit-applications/([^/]+)/(audit-entries)"
+              + "|.*/nodes/([^/]+)/(audit-entries|parents|versions|children)"
+              + "|.*/(nodes)/([^/]+)"
+              + "|.*/queries/(nodes)"
+              + "|.*/(discovery)");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final double latencyMedianMillis;
+  private final double latencySigma;
+  private final double errorRate;
+  private final Path payloadDirectory;
+  private final AtomicLong auditIds = new AtomicLong();
+  private final AtomicLong requests = new AtomicLong();
+
+  public MockAlfrescoServer(
+      int port,
+      double latencyMedianMillis,
+      double latencySigma,
+      double errorRate,
+      Path payloadDirectory)
+      throws IOException {
+    this.latencyMedianMillis = latencyMedianMillis;
+    this.latencySigma = latencySigma;
+    this.errorRate = errorRate;
+    this.payloadDirectory = payloadDirectory;
+    this.server = HttpServer.create(new InetSocketAddress("localhost", port), 512);
+    this.server.createContext("/", this::handle);
+    this.server.setExecutor(executor);
+  }
+
+  public static String nodeId(int index) {
+    return new UUID(0x5eedL, index).toString();
+  }
+
+  public void start() {
+    server.start();
+  }
+
+  public String url() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  public long requests() {
+    return requests.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    try (exchange) {
+      sleep();
+      if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+        respond(exchange, 500, error(500, "Simulated failure"));
+        return;
+      }
+
+      Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+      int maxItems = Integer.parseInt(query.getOrDefault("maxItems", "100"));
+      Matcher matcher = ROUTE.matcher(exchange.getRequestURI().getPath());
+      if (!matcher.matches()) {
+        respond(exchange, 404, error(404, "Unknown route " + exchange.getRequestURI()));
+        return;
+      }
+
+      String route;
+      Object body;
+      if (matcher.group(1) != null) {
+        route = "probe";
+        body = entry(objectMapper.createObjectNode().put("message", "Success - Tested"));
+      } else if (matcher.group(3) != null) {
+        route = "audit-applications";
+        body = auditApplications();
+      } else if (matcher.group(5) != null) {
+        route = "audit-entries";
+        body = auditEntries(matcher.group(4), maxItems);
+      } else if (matcher.group(7) != null) {
+        route = matcher.group(7);
+        body =
+            switch (route) {
+              case "audit-entries" -> auditEntries("alfresco-access", maxItems);
+              case "versions" -> versions(matcher.group(6));
+              default -> nodes(Math.min(maxItems, 20));
+            };
+      } else if (matcher.group(8) != null) {
+        route = "node";
+        body = entry(node(matcher.group(9)));
+      } else if (matcher.group(10) != null) {
+        route = "queries";
+        body = nodes(Math.min(maxItems, 25));
+      } else {
+        route = "discovery";
+        body = discovery();
+      }
+
+      Path recorded = payloadDirectory == null ? null : payloadDirectory.resolve(route + ".json");
+      if (recorded != null && Files.isRegularFile(recorded)) {
+        respond(exchange, 200, Files.readAllBytes(recorded));
+      } else {
+        respond(exchange, 200, objectMapper.writeValueAsBytes(body));
+      }
+    } catch (RuntimeException e) {
+      respond(exchange, 500, error(500, e.toString()));
+    }
+  }
+
+  private void sleep() {
+    if (latencyMedianMillis <= 0) {
+      return;
+    }
+    double delay =
+        latencyMedianMillis * Math.exp(latencySigma * ThreadLocalRandom.current().nextGaussian());
+    try {
+      Thread.sleep((long) delay);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private ObjectNode auditApplications() {
+    ArrayNode entries = objectMapper.createArrayNode();
+    for (String id : new String[] {"alfresco-access", "tagging", "CMISChangeLog"}) {
+      ObjectNode application =
+          objectMapper.createObjectNode().put("id", id).put("name", id).put("isEnabled", true);
+      entries.add(entry(application));
+    }
+    return paging(entries, entries.size());
+  }
+
+  private ObjectNode auditEntries(String appId, int count) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    String[] actions = {"READ", "CREATE", "updateNodeProperties", "MOVE", "DELETE", "CHECK IN"};
+    ArrayNode entries = objectMapper.createArrayNode();
+    OffsetDateTime time = OffsetDateTime.now(ZoneOffset.UTC).minusDays(30);
+    for (int i = 0; i < count; i++) {
+      int user = random.nextInt(50);
+      int node = random.nextInt(NODE_COUNT);
+      time = time.plusSeconds(random.nextInt(1, 600));
+      ObjectNode values = objectMapper.createObjectNode();
+      values.put("/alfresco-access/transaction/action", actions[random.nextInt(actions.length)]);
+      values.put("/alfresco-access/transaction/user", "user" + user);
+      values.put("/alfresco-access/transaction/type", "cm:content");
+      values.put(
+          "/alfresco-access/transaction/path",
+          "/app:company_home/st:sites/cm:finance/cm:documentLibrary/cm:report-" + node + ".pdf");
+      values.put("/alfresco-access/transaction/node", "workspace://SpacesStore/" + nodeId(node));
+      entries.add(
+          entry(
+              objectMapper
+                  .createObjectNode()
+                  .put("id", auditIds.incrementAndGet())
+                  .put("auditApplicationId", appId)
+                  .put("createdAt", time.toString())
+                  .<ObjectNode>set("createdByUser", user(user))
+                  .set("values", values)));
+    }
+    return paging(entries, count);
+  }
+
+  private ObjectNode nodes(int count) {
+    ArrayNode entries = objectMapper.createArrayNode();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < count; i++) {
+      entries.add(entry(node(nodeId(random.nextInt(NODE_COUNT)))));
+    }
+    return paging(entries, count);
+  }
+
+  private ObjectNode versions(String nodeId) {
+    ArrayNode entries = objectMapper.createArrayNode();
+    for (int i = 5; i >= 1; i--) {
+      entries.add(
+          entry(
+              node(nodeId)
+                  .put("id", "1." + i)
+                  .put("versionComment", "Revision " + i)
+                  .put("isFolder", false)));
+    }
+    return paging(entries, entries.size());
+  }
+
+  private ObjectNode node(String nodeId) {
+    int index = Math.floorMod(nodeId.hashCode(), NODE_COUNT);
+    String now = OffsetDateTime.now(ZoneOffset.UTC).toString();
+    ObjectNode properties = objectMapper.createObjectNode();
+    properties.put("cm:title", "Quarterly report " + index);
+    properties.put("cm:description", "Financial report for quarter " + (index % 4 + 1));
+    properties.put("cm:versionLabel", "1.5");
+    properties.put("cm:author", "user" + index % 50);
+    ObjectNode content =
+        objectMapper
+            .createObjectNode()
+            .put("mimeType", "application/pdf")
+            .put("mimeTypeName", "Adobe PDF Document")
+            .put("sizeInBytes", 100_000 + index * 37L)
+            .put("encoding", "UTF-8");
+    ObjectNode node =
+        objectMapper
+            .createObjectNode()
+            .put("id", nodeId)
+            .put("name", "report-" + index + ".pdf")
+            .put("nodeType", "cm:content")
+            .put("isFolder", false)
+            .put("isFile", true)
+            .put("createdAt", now)
+            .put("modifiedAt", now)
+            .put("parentId", nodeId(NODE_COUNT + index % 10));
+    node.set("createdByUser", user(index % 50));
+    node.set("modifiedByUser", user(index % 50));
+    node.set(
+        "aspectNames",
+        objectMapper
+            .createArrayNode()
+            .add("cm:versionable")
+            .add("cm:titled")
+            .add("cm:auditable")
+            .add("cm:author"));
+    node.set("properties", properties);
+    node.set("content", content);
+    return node;
+  }
+
+  private ObjectNode discovery() {
+    ObjectNode version =
+        objectMapper
+            .createObjectNode()
+            .put("major", "23")
+            .put("minor", "2")
+            .put("patch", "0")
+            .put("hotfix", "0")
+            .put("schema", 19000)
+            .put("label", "r")
+            .put("display", "23.2.0 (r) schema 19000");
+    ObjectNode status =
+        objectMapper
+            .createObjectNode()
+            .put("isReadOnly", false)
+            .put("isAuditEnabled", true)
+            .put("isQuickShareEnabled", true)
+            .put("isThumbnailGenerationEnabled", true);
+    ObjectNode repository =
+        objectMapper.createObjectNode().put("id", "mock-repository").put("edition", "Community");
+    repository.set("version", version);
+    repository.set("status", status);
+    return entry(objectMapper.createObjectNode().set("repository", repository));
+  }
+
+  private ObjectNode user(int index) {
+    return objectMapper
+        .createObjectNode()
+        .put("id", "user" + index)
+        .put("displayName", "User " + index);
+  }
+
+  private ObjectNode entry(ObjectNode entry) {
+    ObjectNode wrapper = objectMapper.createObjectNode();
+    wrapper.set("entry", entry);
+    return wrapper;
+  }
+
+  private ObjectNode paging(ArrayNode entries, int maxItems) {
+    ObjectNode pagination =
+        objectMapper
+            .createObjectNode()
+            .put("count", entries.size())
+            .put("hasMoreItems", false)
+            .put("skipCount", 0)
+            .put("maxItems", maxItems);
+    ObjectNode list = objectMapper.createObjectNode();
+    list.set("pagination", pagination);
+    list.set("entries", entries);
+    ObjectNode paging = objectMapper.createObjectNode();
+    paging.set("list", list);
+    return paging;
+  }
+
+  private byte[] error(int status, String message) throws IOException {
+    ObjectNode error =
+        objectMapper
+            .createObjectNode()
+            .put("statusCode", status)
+            .put("briefSummary", message)
+            .put("errorKey", "framework.exception.ApiDefault");
+    return objectMapper.writeValueAsBytes(objectMapper.createObjectNode().set("error", error));
+  }
+
+  private static Map<String, String> query(String rawQuery) {
+    Map<String, String> query = new HashMap<>();
+    if (rawQuery != null) {
+      for (String parameter : rawQuery.split("&")) {
+        int separator = parameter.indexOf('=');
+        if (separator > 0) {
+          query.put(
+              parameter.substring(0, separator),
+              URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+      }
+    }
+    return query;
+  }
+
+  private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  /** Runs the mock on its own, for example to point a manually started server at it. */
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+    MockAlfrescoServer server = new MockAlfrescoServer(port, 50, 0.5, 0.0, null);
+    server.start();
+    System.out.println("Mock Alfresco Content Service listening on " + server.url());
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.loadtest;
+
+import com.sun.tools.attach.VirtualMachine;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * Samples heap usage and thread count of a server process. Attaches to the process over JMX when
+ * possible, and otherwise falls back to the resident set size and thread count in {@code /proc}.
+ */
+public class ServerResources implements AutoCloseable {
+
+  private final long pid;
+  private JMXConnector connector;
+  private MemoryMXBean memory;
+  private ThreadMXBean threads;
+
+  private long samples;
+  private long heapSum;
+  private long heapMax;
+  private long threadSum;
+  private long threadMax;
+
+  public ServerResources(long pid) {
+    this.pid = pid;
+    try {
+      VirtualMachine vm = VirtualMachine.attach(Long.toString(pid));
+      String address = vm.startLocalManagementAgent();
+      vm.detach();
+      connector = JMXConnectorFactory.connect(new JMXServiceURL(address));
+      MBeanServerConnection connection = connector.getMBeanServerConnection();
+      memory =
+          ManagementFactory.newPlatformMXBeanProxy(
+              connection, ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+      threads =
+          ManagementFactory.newPlatformMXBeanProxy(
+              connection, ManagementFactory.THREAD_MXBEAN_NAME, ThreadMXBean.class);
+    } catch (Exception e) {
+      System.err.println("JMX attach to " + pid + " failed, sampling /proc instead: " + e);
+    }
+  }
+
+  public synchronized void sample() {
+    long heap;
+    long threadCount;
+    try {
+      if (memory != null) {
+        heap = memory.getHeapMemoryUsage().getUsed();
+        threadCount = threads.getThreadCount();
+      } else {
+        Map<String, String> status = procStatus();
+        heap = Long.parseLong(status.getOrDefault("VmRSS", "0 kB").split("\\s+")[0]) * 1024;
+        threadCount = Long.parseLong(status.getOrDefault("Threads", "0").trim());
+      }
+    } catch (IOException | RuntimeException e) {
+      return;
+    }
+    samples++;
+    heapSum += heap;
+    heapMax = Math.max(heapMax, heap);
+    threadSum += threadCount;
+    threadMax = Math.max(threadMax, threadCount);
+  }
+
+  public synchronized Map<String, Object> report() {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("pid", pid);
+    report.put("source", memory != null ? "jmx-heap" : "proc-rss");
+    report.put("samples", samples);
+    report.put("memoryMaxMb", heapMax / (1024 * 1024));
+    report.put("memoryAvgMb", samples == 0 ? 0 : heapSum / samples / (1024 * 1024));
+    report.put("threadsMax", threadMax);
+    report.put("threadsAvg", samples == 0 ? 0 : threadSum / samples);
+    return report;
+  }
+
+  private Map<String, String> procStatus() throws IOException {
+    Map<String, String> status = new LinkedHashMap<>();
+    for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+      int separator = line.indexOf(':');
+      if (separator > 0) {
+        status.put(line.substring(0, separator), line.substring(separator + 1).trim());
+      }
+    }
+    return status;
+  }
+
+  @Override
+  public void close() {
+    if (connector != null) {
+      try {
+        connector.close();
+      } catch (IOException e) {
+        // The server process may already be gone
+      }
+    }
+  }
+}
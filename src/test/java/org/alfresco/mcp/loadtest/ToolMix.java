@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * A weighted mix of tool calls, parsed from {@code tool:weight,tool:weight,...}. Each known tool
+ * has a script that produces plausible arguments referring to the nodes of the {@link
+ * MockAlfrescoServer}.
+ */
+public class ToolMix {
+
+  public static final String DEFAULT =
+      "get_node_entry_by_id:30,get_node_id_for_file:15,get_x_audit_entries_where_y:15,"
+          + "get_x_audit_entries_for_specific_node:10,is_alfresco_ready:10,"
+          + "get_audit_applications:5,get_alfresco_discovery_info:5,get_node_dossier:5,"
+          + "get_audit_timeline_for_nodes:5";
+
+  private static final Map<String, Supplier<Map<String, Object>>> SCRIPTS = new LinkedHashMap<>();
+
+  static {
+    SCRIPTS.put("is_alfresco_live", Map::of);
+    SCRIPTS.put("is_alfresco_ready", Map::of);
+    SCRIPTS.put("get_alfresco_discovery_info", Map::of);
+    SCRIPTS.put("get_audit_applications", Map::of);
+    SCRIPTS.put("get_server_statistics", Map::of);
+    SCRIPTS.put("get_node_entry_by_id", () -> Map.of("nodeId", randomNodeId()));
+    SCRIPTS.put("get_node_dossier", () -> Map.of("nodeId", randomNodeId(), "auditLimit", 20));
+    SCRIPTS.put(
+        "get_node_id_for_file", () -> Map.of("fileName", "report-" + randomIndex() + ".pdf"));
+    SCRIPTS.put(
+        "all_the_files_with_the_same_name",
+        () -> Map.of("fileName", "report-" + randomIndex() + ".pdf"));
+    SCRIPTS.put("get_audit_entries", () -> Map.of("appId", "alfresco-access"));
+    SCRIPTS.put(
+        "get_x_audit_entries_where_y",
+        () ->
+            Map.of(
+                "appId",
+                "alfresco-access",
+                "limit",
+                500,
+                "where",
+                "(createdByUser='user" + ThreadLocalRandom.current().nextInt(50) + "')"));
+    SCRIPTS.put(
+        "get_x_audit_entries_for_specific_node",
+        () -> Map.of("nodeId", randomNodeId(), "limit", 100));
+    SCRIPTS.put(
+        "get_audit_timeline_for_nodes",
+        () -> {
+          List<String> nodeIds = new ArrayList<>();
+          for (int i = 0; i < 20; i++) {
+            nodeIds.add(randomNodeId());
+          }
+          return Map.of("nodeIds", nodeIds, "limitPerNode", 20);
+        });
+  }
+
+  private final List<String> tools = new ArrayList<>();
+  private final double[] cumulativeWeights;
+
+  public ToolMix(String mix) {
+    List<Double> weights = new ArrayList<>();
+    for (String part : mix.split(",")) {
+      String[] toolAndWeight = part.trim().split(":");
+      String tool = toolAndWeight[0].trim();
+      if (!SCRIPTS.containsKey(tool)) {
+        throw new IllegalArgumentException(
+            "No script for tool " + tool + ", known tools: " + SCRIPTS.keySet());
+      }
+      tools.add(tool);
+      weights.add(toolAndWeight.length > 1 ? Double.parseDouble(toolAndWeight[1]) : 1.0);
+    }
+    cumulativeWeights = new double[weights.size()];
+    double total = 0;
+    for (int i = 0; i < weights.size(); i++) {
+      total += weights.get(i);
+      cumulativeWeights[i] = total;
+    }
+  }
+
+  public List<String> tools() {
+    return tools;
+  }
+
+  public String nextTool() {
+    double value =
+        ThreadLocalRandom.current().nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (value < cumulativeWeights[i]) {
+        return tools.get(i);
+      }
+    }
+    return tools.get(tools.size() - 1);
+  }
+
+  public Map<String, Object> arguments(String tool) {
+    return SCRIPTS.get(tool).get();
+  }
+
+  private static int randomIndex() {
+    return ThreadLocalRandom.current().nextInt(MockAlfrescoServer.NODE_COUNT);
+  }
+
+  private static String randomNodeId() {
+    return MockAlfrescoServer.nodeId(randomIndex());
+  }
+}
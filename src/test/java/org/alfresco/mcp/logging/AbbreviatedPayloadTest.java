@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import org.alfresco.core.model.Node;
+import org.alfresco.core.model.NodeEntry;
+import org.alfresco.core.model.NodePaging;
+import org.alfresco.core.model.NodePagingList;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class AbbreviatedPayloadTest {
+
+  @Test
+  void keepsShortPayloadsWhole() {
+    assertThat(new AbbreviatedPayload("{\"appId\":\"alfresco-access\"}", 100))
+        .hasToString("{\"appId\":\"alfresco-access\"}");
+    assertThat(new AbbreviatedPayload(new Node().id("n1").name("a.pdf"), 100))
+        .hasToString("{\"id\":\"n1\",\"name\":\"a.pdf\"}");
+  }
+
+  @Test
+  void truncatesLongPayloadsAtTheLimit() {
+    assertThat(new AbbreviatedPayload("x".repeat(100), 10))
+        .hasToString("xxxxxxxxxx... (truncated at 10 chars)");
+  }
+
+  @Test
+  void summarisesCollectionsAndPagingResponses() {
+    assertThat(new AbbreviatedPayload(List.of("a", "b"), 100)).hasToString("[size=2] [a, b]");
+
+    NodePaging paging =
+        new NodePaging()
+            .list(
+                new NodePagingList()
+                    .entries(
+                        List.of(
+                            new NodeEntry().entry(new Node().id("n1")),
+                            new NodeEntry().entry(new Node().id("n2")))));
+    assertThat(new AbbreviatedPayload(ResponseEntity.ok(paging), 100))
+        .hasToString("[size=2] [{\"entry\":{\"id\":\"n1\"}}, {\"entry\":{\"id\":\"n2\"}}]");
+    assertThat(new AbbreviatedPayload(ResponseEntity.ok(paging), 20))
+        .hasToString("[size=2] [{\"entry\":{... (truncated at 20 chars)");
+  }
+
+  @Test
+  void stopsRenderingLargePayloadsEarly() {
+    LargePayload payload = new LargePayload(Collections.nCopies(1_000_000, "value"));
+
+    String rendered = new AbbreviatedPayload(payload, 50).toString();
+
+    assertThat(rendered)
+        .startsWith("{\"values\":[\"value\",\"value\"")
+        .endsWith("(truncated at 50 chars)");
+    assertThat(payload.rendered).isFalse();
+  }
+
+  /** A payload whose string form would be very large; rendering must not fall back to it. */
+  static final class LargePayload {
+
+    private final List<String> values;
+    private boolean rendered;
+
+    LargePayload(List<String> values) {
+      this.values = values;
+    }
+
+    public List<String> getValues() {
+      return values;
+    }
+
+    @Override
+    public String toString() {
+      rendered = true;
+      return String.valueOf(values);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.passthrough;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PagingProjectorTest {
+
+  private static final String PAGE =
+      "{\"list\":{\"pagination\":{\"count\":2,\"hasMoreItems\":false},\"entries\":["
+          + "{\"entry\":{\"id\":1,\"createdByUser\":{\"id\":\"admin\"},"
+          + "\"values\":{\"/alfresco-access/transaction/action\":\"CREATE\"}}},"
+          + "{\"entry\":{\"id\":2,\"createdByUser\":{\"id\":\"jbloggs\"}}}]}}";
+
+  @Test
+  void copiesEntriesWithoutWrappersOrPagination() throws IOException {
+    PagingProjector.Projection projection = PagingProjector.project(stream(PAGE), null);
+
+    assertThat(projection.count()).isEqualTo(2);
+    assertThat(projection.entries().toString())
+        .isEqualTo(
+            "[{\"id\":1,\"createdByUser\":{\"id\":\"admin\"},"
+                + "\"values\":{\"/alfresco-access/transaction/action\":\"CREATE\"}},"
+                + "{\"id\":2,\"createdByUser\":{\"id\":\"jbloggs\"}}]");
+  }
+
+  @Test
+  void keepsOnlyProjectedFields() throws IOException {
+    PagingProjector.Projection projection = PagingProjector.project(stream(PAGE), Set.of("id"));
+
+    assertThat(projection.entries().toString()).isEqualTo("[{\"id\":1},{\"id\":2}]");
+  }
+
+  @Test
+  void returnsEmptyArrayForEmptyList() throws IOException {
+    PagingProjector.Projection projection =
+        PagingProjector.project(stream("{\"list\":{\"entries\":[]}}"), null);
+
+    assertThat(projection.count()).isZero();
+    assertThat(projection.entries().toString()).isEqualTo("[]");
+  }
+
+  private static ByteArrayInputStream stream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
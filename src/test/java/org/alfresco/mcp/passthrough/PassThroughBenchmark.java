@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.passthrough;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.mcp.model.OperationResponse;
+import org.alfresco.mcp.service.AuditService;
+
+/**
+ * Compares the allocation and CPU time of the bound path (SDK model classes, then serializing the
+ * tool response) with the streaming pass-through path on an audit entry page of 10,000 entries.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.alfresco.mcp.passthrough.PassThroughBenchmark
+ * </pre>
+ */
+public class PassThroughBenchmark {
+
+  private static final int ENTRIES = 10_000;
+  private static final int WARMUP_ROUNDS = 20;
+  private static final int MEASURED_ROUNDS = 50;
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  private final com.sun.management.ThreadMXBean threads =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  public static void main(String[] args) throws IOException {
+    new PassThroughBenchmark().run();
+  }
+
+  void run() throws IOException {
+    byte[] page = page();
+    System.out.printf("Audit entry page: %d entries, %d bytes%n", ENTRIES, page.length);
+    report("bound", measure(() -> bound(page)));
+    report("pass-through", measure(() -> passThrough(page)));
+  }
+
+  private String bound(byte[] page) throws IOException {
+    AuditEntryPaging paging = objectMapper.readValue(page, AuditEntryPaging.class);
+    return objectMapper.writeValueAsString(AuditService.toOperationResponse(paging));
+  }
+
+  private String passThrough(byte[] page) throws IOException {
+    PagingProjector.Projection projection =
+        PagingProjector.project(new ByteArrayInputStream(page), null);
+    return objectMapper.writeValueAsString(
+        OperationResponse.builder().success(true).data(projection.entries()).build());
+  }
+
+  private long[] measure(Round round) throws IOException {
+    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+      round.run();
+    }
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+    long cpuBefore = threads.getCurrentThreadCpuTime();
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      round.run();
+    }
+    return new long[] {
+      (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / MEASURED_ROUNDS,
+      (threads.getCurrentThreadCpuTime() - cpuBefore) / MEASURED_ROUNDS
+    };
+  }
+
+  private static void report(String path, long[] result) {
+    System.out.printf(
+        "%-13s %,12d bytes allocated %8.2f ms CPU per response%n",
+        path, result[0], result[1] / 1e6);
+  }
+
+  private byte[] page() throws IOException {
+    StringBuilder json = new StringBuilder("{\"list\":{\"pagination\":{\"count\":");
+    json.append(ENTRIES).append(",\"hasMoreItems\":true,\"skipCount\":0,\"maxItems\":");
+    json.append(ENTRIES).append("},\"entries\":[");
+    for (int i = 0; i < ENTRIES; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      Map<String, Object> entry =
+          Map.of(
+              "id",
+              100_000 + i,
+              "auditApplicationId",
+              "alfresco-access",
+              "createdByUser",
+              Map.of("id", "user" + (i % 50), "displayName", "User " + (i % 50)),
+              "createdAt",
+              "2025-06-02T12:13:51.593+00:00",
+              "values",
+              Map.of(
+                  "/alfresco-access/transaction/action", "UPDATE",
+                  "/alfresco-access/transaction/user", "user" + (i % 50),
+                  "/alfresco-access/transaction/path",
+                      "/app:company_home/cm:documents/cm:file-" + i + ".pdf"));
+      json.append("{\"entry\":").append(objectMapper.writeValueAsString(entry)).append('}');
+    }
+    json.append("]}}");
+    return json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @FunctionalInterface
+  private interface Round {
+    void run() throws IOException;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.prefetch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RequestBudgetTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  void startsFullAndStopsWhenSpent() {
+    RequestBudget budget = new RequestBudget(60, now::get);
+
+    for (int i = 0; i < 60; i++) {
+      assertThat(budget.tryAcquire()).isTrue();
+    }
+    assertThat(budget.tryAcquire()).isFalse();
+
+    advance(999);
+    assertThat(budget.tryAcquire()).isFalse();
+    advance(1);
+    assertThat(budget.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void keepsFractionsOfTokensBetweenRequests() {
+    RequestBudget budget = new RequestBudget(60, now::get);
+    while (budget.tryAcquire()) {
+      // Drain the initial budget
+    }
+
+    // One token per second, asked for every 750ms: six requests fit into six seconds
+    int granted = 0;
+    for (int i = 0; i < 8; i++) {
+      advance(750);
+      if (budget.tryAcquire()) {
+        granted++;
+      }
+    }
+    assertThat(granted).isEqualTo(6);
+  }
+
+  @Test
+  void neverHoldsMoreThanOneMinuteOfTokens() {
+    RequestBudget budget = new RequestBudget(2, now::get);
+    advance(TimeUnit.HOURS.toMillis(1));
+
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isFalse();
+  }
+
+  private void advance(long millis) {
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.mcp.McpToolUtils;
+import reactor.core.Disposable;
+
+class ToolSchedulerTest {
+
+  private final ToolScheduler scheduler =
+      new ToolScheduler(new SchedulerProperties(true, "interactive", Map.of(), Map.of(), 1));
+
+  @Test
+  void grantsWaitingCallsRoundRobinAcrossSessions() throws InterruptedException {
+    // Two sessions of clients that report the same name and version
+    McpSchema.Implementation first = new McpSchema.Implementation("agent", "1.0");
+    McpSchema.Implementation second = new McpSchema.Implementation("agent", "1.0");
+    List<String> admitted = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> callers = new ArrayList<>();
+
+    ToolScheduler.Permit running = scheduler.acquire("tool", context(first));
+    callers.add(call("a1", context(first), admitted, 1));
+    callers.add(call("a2", context(first), admitted, 2));
+    callers.add(call("a3", context(first), admitted, 3));
+    callers.add(call("b1", context(second), admitted, 4));
+    running.close();
+    for (Thread caller : callers) {
+      caller.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    assertThat(admitted).containsExactly("a1", "b1", "a2", "a3");
+  }
+
+  @Test
+  void handsTheSlotOnToAsyncCallsAndSkipsCancelledOnes() {
+    ToolScheduler.Permit running = scheduler.acquireAsync("tool", "a").block();
+    AtomicReference<ToolScheduler.Permit> cancelledPermit = new AtomicReference<>();
+    AtomicReference<ToolScheduler.Permit> waitingPermit = new AtomicReference<>();
+    Disposable cancelled = scheduler.acquireAsync("tool", "b").subscribe(cancelledPermit::set);
+    scheduler.acquireAsync("tool", "c").subscribe(waitingPermit::set);
+    assertThat(queued()).isEqualTo(2);
+
+    cancelled.dispose();
+    assertThat(queued()).isEqualTo(1);
+    running.close();
+
+    assertThat(cancelledPermit.get()).isNull();
+    assertThat(waitingPermit.get()).isNotNull();
+    waitingPermit.get().close();
+    assertThat(lane())
+        .containsEntry("running", 0)
+        .containsEntry("queued", 0)
+        .containsEntry("abortedWhileQueued", 1L);
+  }
+
+  /** Starts a call that records its admission, and waits until it is queued. */
+  private Thread call(String name, ToolContext context, List<String> admitted, int expectedQueued)
+      throws InterruptedException {
+    Thread caller =
+        new Thread(
+            () -> {
+              try (ToolScheduler.Permit permit = scheduler.acquire("tool", context)) {
+                admitted.add(name);
+              }
+            });
+    caller.start();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (queued() < expectedQueued && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    return caller;
+  }
+
+  private int queued() {
+    return (Integer) lane().get("queued");
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> lane() {
+    return (Map<String, Object>) scheduler.getStatistics().get("interactive");
+  }
+
+  /** Every request gets its own exchange, sharing the client info of its session. */
+  private static ToolContext context(McpSchema.Implementation clientInfo) {
+    McpSyncServerExchange exchange = mock(McpSyncServerExchange.class);
+    when(exchange.getClientInfo()).thenReturn(clientInfo);
+    return new ToolContext(Map.of(McpToolUtils.TOOL_CONTEXT_MCP_EXCHANGE_KEY, exchange));
+  }
+}
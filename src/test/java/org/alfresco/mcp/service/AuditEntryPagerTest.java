@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.model.AuditEntry;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class AuditEntryPagerTest {
+
+  private static final String APP = "alfresco-access";
+  private static final String MAX = String.valueOf(Long.MAX_VALUE);
+  private static final String CREATED =
+      "createdAt BETWEEN ('2017-06-02T12:13:51.593+01:00', '2017-06-04T10:05:16.536+01:00')";
+
+  private final AuditApi auditApi = mock(AuditApi.class);
+  private final UpstreamExecutor upstream =
+      new UpstreamExecutor(
+          new ExecutionProperties(Duration.ofSeconds(60), Map.of(), 1, 8, Duration.ofSeconds(10)));
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @AfterEach
+  void shutDown() {
+    upstream.destroy();
+  }
+
+  @Test
+  void combinesTheWhereClauseWithTheIdRange() {
+    assertThat(AuditEntryPager.withIdRange(null, 0)).isEqualTo("(id BETWEEN ('1', '" + MAX + "'))");
+    assertThat(AuditEntryPager.withIdRange("(" + CREATED + ")", 41))
+        .isEqualTo("(" + CREATED + " AND id BETWEEN ('42', '" + MAX + "'))");
+    assertThat(AuditEntryPager.withIdRange("(createdByUser='a') OR (createdByUser='b')", 1))
+        .isEqualTo(
+            "((createdByUser='a') OR (createdByUser='b') AND id BETWEEN ('2', '" + MAX + "'))");
+  }
+
+  @Test
+  void resumesAfterTheLastIdOfTheFilteredRange() throws Exception {
+    String where = "(" + CREATED + ")";
+    String firstPage = "(" + CREATED + " AND id BETWEEN ('11', '" + MAX + "'))";
+    String secondPage = "(" + CREATED + " AND id BETWEEN ('13', '" + MAX + "'))";
+    ResponseEntity<AuditEntryPaging> first = page(11, 12);
+    ResponseEntity<AuditEntryPaging> second = page(15);
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), eq(0), any(), any(), eq(2), eq(firstPage), any(), any()))
+        .thenReturn(first);
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), eq(0), any(), any(), eq(2), eq(secondPage), any(), any()))
+        .thenReturn(second);
+
+    AuditEntryPager pager = new AuditEntryPager(auditApi, upstream, APP, where, 10, 2, true);
+
+    assertThat(ids(pager.nextPage())).containsExactly(11L, 12L);
+    assertThat(pager.lastId()).isEqualTo(12);
+    assertThat(ids(pager.nextPage())).containsExactly(15L);
+    assertThat(pager.hasNext()).isFalse();
+    assertThat(pager.lastId()).isEqualTo(15);
+  }
+
+  @Test
+  void pagesByOffsetWhenTheWhereClauseRestrictsTheId() throws Exception {
+    String where = "(id BETWEEN ('1', '100'))";
+    ResponseEntity<AuditEntryPaging> first = page(4, 5);
+    ResponseEntity<AuditEntryPaging> second = page(6);
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), eq(0), any(), any(), anyInt(), anyString(), any(), any()))
+        .thenReturn(first);
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), eq(2), any(), any(), anyInt(), anyString(), any(), any()))
+        .thenReturn(second);
+
+    AuditEntryPager pager = new AuditEntryPager(auditApi, upstream, APP, where, 4, 2, true);
+
+    assertThat(ids(pager.nextPage())).containsExactly(5L);
+    assertThat(ids(pager.nextPage())).containsExactly(6L);
+    verify(auditApi)
+        .listAuditEntriesForAuditApp(APP, 2, true, null, 2, where, List.of("values"), null);
+  }
+
+  private ResponseEntity<AuditEntryPaging> page(long... ids) throws Exception {
+    String entries =
+        Arrays.stream(ids)
+            .mapToObj(id -> "{\"entry\":{\"id\":" + id + "}}")
+            .collect(Collectors.joining(","));
+    return ResponseEntity.ok(
+        objectMapper.readValue(
+            "{\"list\":{\"entries\":[" + entries + "]}}", AuditEntryPaging.class));
+  }
+
+  private static List<Long> ids(List<AuditEntry> entries) {
+    return entries.stream().map(entry -> entry.getId().longValue()).toList();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.model.AuditExport;
+import org.alfresco.mcp.model.OperationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+
+class AuditExportServiceTest {
+
+  private static final String APP = "alfresco-access";
+  private static final String WHERE = "(createdByUser='admin')";
+
+  @TempDir Path directory;
+
+  private final AuditApi auditApi = mock(AuditApi.class);
+  private final UpstreamExecutor upstream =
+      new UpstreamExecutor(
+          new ExecutionProperties(Duration.ofSeconds(60), Map.of(), 1, 8, Duration.ofSeconds(10)));
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @AfterEach
+  void shutDown() {
+    upstream.destroy();
+  }
+
+  @Test
+  void resumesOnlyTheQueryTheFileWasWrittenFor() throws Exception {
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), anyInt(), any(), any(), anyInt(), anyString(), any(), any()))
+        .thenReturn(page("{\"entry\":{\"id\":1}},{\"entry\":{\"id\":2}}"), page(""));
+    AuditExportService service = service();
+
+    OperationResponse<Object> first = export(service, APP, WHERE, null);
+    assertThat(first.isSuccess()).isTrue();
+    assertThat(((AuditExport) first.getData()).lastId()).isEqualTo(2);
+    assertThat(directory.resolve("audit.ndjson.query.json")).exists();
+
+    assertThat(export(service, APP, "(createdByUser='guest')", 2L).getMessages())
+        .singleElement()
+        .asString()
+        .contains("appId=" + APP + " where=" + WHERE);
+    assertThat(export(service, "tagging", WHERE, 2L).isSuccess()).isFalse();
+
+    OperationResponse<Object> resumed = export(service, APP, WHERE, 2L);
+    assertThat(resumed.isSuccess()).isTrue();
+    assertThat(((AuditExport) resumed.getData()).rows()).isZero();
+    assertThat(Files.readAllLines(directory.resolve("audit.ndjson"))).hasSize(2);
+  }
+
+  @Test
+  void refusesToAppendToFilesOfAnUnknownQuery() throws Exception {
+    Files.writeString(directory.resolve("audit.ndjson"), "{\"id\":1}\n");
+
+    OperationResponse<Object> response = export(service(), APP, WHERE, 1L);
+
+    assertThat(response.isSuccess()).isFalse();
+    assertThat(response.getMessages()).singleElement().asString().contains("Use another file");
+  }
+
+  private AuditExportService service() {
+    return new AuditExportService(
+        auditApi,
+        upstream,
+        objectMapper,
+        new AuditExportProperties(directory.toString(), 1000, 8192));
+  }
+
+  private static OperationResponse<Object> export(
+      AuditExportService service, String appId, String where, Long resumeAfterId) {
+    return service.exportAuditEntries(appId, where, resumeAfterId, "audit.ndjson", "none", null);
+  }
+
+  private ResponseEntity<AuditEntryPaging> page(String entries) throws Exception {
+    return ResponseEntity.ok(
+        objectMapper.readValue(
+            "{\"list\":{\"entries\":[" + entries + "]}}", AuditEntryPaging.class));
+  }
+}
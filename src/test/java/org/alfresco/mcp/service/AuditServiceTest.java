@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.mcp.analytics.HeavyHitters.HeavyHitter;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.logging.LoggingProperties;
+import org.alfresco.mcp.logging.PayloadLogger;
+import org.alfresco.mcp.model.AuditAnalytics;
+import org.alfresco.mcp.model.AuditTimeline;
+import org.alfresco.mcp.model.OperationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class AuditServiceTest {
+
+  private static final String APP = "alfresco-access";
+
+  private final AuditApi auditApi = mock(AuditApi.class);
+  private final ExecutionProperties executionProperties =
+      new ExecutionProperties(Duration.ofSeconds(60), Map.of(), 4, 8, Duration.ofSeconds(10));
+  private final UpstreamExecutor upstream = new UpstreamExecutor(executionProperties);
+  private final AuditService auditService =
+      new AuditService(
+          auditApi,
+          upstream,
+          executionProperties,
+          new PayloadLogger(new LoggingProperties(2048, 1.0, Map.of())),
+          null,
+          null);
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  @AfterEach
+  void shutDown() {
+    upstream.destroy();
+  }
+
+  @Test
+  void analyticsStoppedMidPageReportTheLastEntryAnalysed() throws Exception {
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), anyInt(), any(), any(), anyInt(), anyString(), any(), any()))
+        .thenReturn(auditPage(11, 12, 13, 14, 15));
+
+    AuditAnalytics analytics = analytics(auditService.getAuditAnalytics(APP, null, 3L, null));
+
+    assertThat(analytics.entries()).isEqualTo(3);
+    assertThat(analytics.firstId()).isEqualTo(11);
+    assertThat(analytics.lastId()).isEqualTo(13);
+    assertThat(analytics.complete()).isFalse();
+  }
+
+  @Test
+  void analyticsReachingTheLimitOnTheLastEntryAreComplete() throws Exception {
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), anyInt(), any(), any(), anyInt(), anyString(), any(), any()))
+        .thenReturn(auditPage(11, 12, 13));
+
+    AuditAnalytics analytics = analytics(auditService.getAuditAnalytics(APP, null, 3L, 1));
+
+    assertThat(analytics.entries()).isEqualTo(3);
+    assertThat(analytics.lastId()).isEqualTo(13);
+    assertThat(analytics.complete()).isTrue();
+    assertThat(analytics.topUsers()).extracting(HeavyHitter::value).containsExactly("alice");
+  }
+
+  @Test
+  void timelineMergesNodesOldestFirstAndKeepsTheMostRecentEntries() throws Exception {
+    when(auditApi.listAuditEntriesForNode(eq("a"), anyInt(), any(), anyInt(), any(), any(), any()))
+        .thenReturn(nodePage(5, 3, 1));
+    when(auditApi.listAuditEntriesForNode(eq("b"), anyInt(), any(), anyInt(), any(), any(), any()))
+        .thenReturn(nodePage(4, 2));
+
+    AuditTimeline timeline =
+        (AuditTimeline)
+            auditService.getAuditTimelineForNodes(List.of("a", "b", "a"), 5000, 4).getData();
+
+    assertThat(timeline.events())
+        .extracting(event -> event.nodeId() + event.entry().getId())
+        .containsExactly("b2", "a3", "b4", "a5");
+    assertThat(timeline.nodes()).isEqualTo(2);
+    assertThat(timeline.failures()).isEmpty();
+    assertThat(timeline.truncated()).isTrue();
+    for (String nodeId : List.of("a", "b")) {
+      verify(auditApi)
+          .listAuditEntriesForNode(
+              nodeId, 0, List.of("createdAt DESC"), 1000, null, List.of("values"), null);
+    }
+  }
+
+  @Test
+  void timelineTotalIsCapped() throws Exception {
+    long[] first = LongStream.rangeClosed(1, 600).map(id -> 1201 - 2 * id).toArray();
+    long[] second = LongStream.rangeClosed(1, 600).map(id -> 1202 - 2 * id).toArray();
+    when(auditApi.listAuditEntriesForNode(eq("a"), anyInt(), any(), anyInt(), any(), any(), any()))
+        .thenReturn(nodePage(first));
+    when(auditApi.listAuditEntriesForNode(eq("b"), anyInt(), any(), anyInt(), any(), any(), any()))
+        .thenReturn(nodePage(second));
+
+    AuditTimeline timeline =
+        (AuditTimeline)
+            auditService.getAuditTimelineForNodes(List.of("a", "b"), null, 5000).getData();
+
+    assertThat(timeline.events()).hasSize(1000);
+    assertThat(timeline.events().get(0).entry().getId()).isEqualTo(201);
+    assertThat(timeline.events().get(999).entry().getId()).isEqualTo(1200);
+    assertThat(timeline.truncated()).isTrue();
+  }
+
+  private static AuditAnalytics analytics(OperationResponse<Object> response) {
+    assertThat(response.isSuccess()).isTrue();
+    return (AuditAnalytics) response.getData();
+  }
+
+  /** A page of audit entries of a node, created {@code id} minutes after midnight. */
+  private ResponseEntity<AuditEntryPaging> nodePage(long... ids) throws Exception {
+    String entries =
+        Arrays.stream(ids)
+            .mapToObj(
+                id ->
+                    "{\"entry\":{\"id\":"
+                        + id
+                        + ",\"createdAt\":\""
+                        + OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).plusMinutes(id)
+                        + "\"}}")
+            .collect(Collectors.joining(","));
+    return ResponseEntity.ok(
+        objectMapper.readValue(
+            "{\"list\":{\"entries\":[" + entries + "]}}", AuditEntryPaging.class));
+  }
+
+  private ResponseEntity<AuditEntryPaging> auditPage(long... ids) throws Exception {
+    String entries =
+        Arrays.stream(ids)
+            .mapToObj(
+                id ->
+                    "{\"entry\":{\"id\":"
+                        + id
+                        + ",\"createdByUser\":{\"id\":\""
+                        + (id % 2 == 1 ? "alice" : "bob")
+                        + "\"}}}")
+            .collect(Collectors.joining(","));
+    return ResponseEntity.ok(
+        objectMapper.readValue(
+            "{\"list\":{\"entries\":[" + entries + "]}}", AuditEntryPaging.class));
+  }
+}
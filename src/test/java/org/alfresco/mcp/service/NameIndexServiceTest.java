@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.handler.NodesApi;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.core.model.Node;
+import org.alfresco.core.model.NodeChildAssociationPaging;
+import org.alfresco.core.model.NodeEntry;
+import org.alfresco.core.model.PathInfo;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class NameIndexServiceTest {
+
+  private static final String APP = "alfresco-access";
+  private static final String MAX = String.valueOf(Long.MAX_VALUE);
+  private static final String EVENTS_AFTER_10 = "(id BETWEEN ('11', '" + MAX + "'))";
+
+  private final NodesApi nodesApi = mock(NodesApi.class);
+  private final AuditApi auditApi = mock(AuditApi.class);
+  private final UpstreamExecutor upstream =
+      new UpstreamExecutor(
+          new ExecutionProperties(Duration.ofSeconds(60), Map.of(), 1, 8, Duration.ofSeconds(10)));
+  private final NameIndexService service =
+      new NameIndexService(
+          nodesApi,
+          auditApi,
+          upstream,
+          new NameIndexProperties(
+              false, "root", 100, 0, Duration.ofHours(24), APP, Duration.ofSeconds(30), 0.3));
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(nodesApi.getNode(eq("root"), any(), any(), any()))
+        .thenReturn(node(new Node().id("root").name("Company Home").isFolder(true)));
+    when(nodesApi.listNodeChildren(
+            eq("root"), anyInt(), anyInt(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(ResponseEntity.ok(new NodeChildAssociationPaging()));
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), eq(0), any(), eq(List.of("createdAt DESC")), eq(1), isNull(), any(), any()))
+        .thenReturn(auditPage("{\"id\":10}"), auditPage("{\"id\":11}"));
+    when(auditApi.listAuditEntriesForAuditApp(
+            eq(APP), eq(0), any(), isNull(), anyInt(), eq(EVENTS_AFTER_10), any(), any()))
+        .thenReturn(
+            auditPage(
+                "{\"id\":11,\"values\":{\"/alfresco-access/transaction/action\":\"CREATE\","
+                    + "\"/alfresco-access/transaction/node\":\"workspace://SpacesStore/file\"}}"));
+  }
+
+  @AfterEach
+  void shutDown() {
+    service.destroy();
+    upstream.destroy();
+  }
+
+  @Test
+  void appliesAuditEventsToTheIndex() {
+    when(nodesApi.getNode(eq("file"), any(), any(), any())).thenReturn(file());
+    service.crawl();
+
+    service.pollAudit();
+
+    assertThat(service.exact("report.pdf", 10))
+        .extracting(match -> match.nodeId() + " " + match.path())
+        .containsExactly("file /Company Home");
+    assertThat(service.getStatistics()).containsEntry("refreshes", 1L).containsEntry("lookups", 1L);
+  }
+
+  @Test
+  void crawlHandOffDoesNotWaitForNodesFetchedByThePoll() throws Exception {
+    CountDownLatch fetching = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(nodesApi.getNode(eq("file"), any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              fetching.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return file();
+            });
+    service.crawl();
+
+    CompletableFuture<Void> poll = CompletableFuture.runAsync(service::pollAudit);
+    assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture.runAsync(service::crawl).get(5, TimeUnit.SECONDS);
+    release.countDown();
+    poll.get(5, TimeUnit.SECONDS);
+
+    assertThat(service.getStatistics()).containsEntry("crawls", 2L).containsEntry("files", 0);
+  }
+
+  private static ResponseEntity<NodeEntry> file() {
+    return node(
+        new Node()
+            .id("file")
+            .name("report.pdf")
+            .isFile(true)
+            .isFolder(false)
+            .path(new PathInfo().name("/Company Home")));
+  }
+
+  private static ResponseEntity<NodeEntry> node(Node node) {
+    return ResponseEntity.ok(new NodeEntry().entry(node));
+  }
+
+  private ResponseEntity<AuditEntryPaging> auditPage(String entry) throws Exception {
+    return ResponseEntity.ok(
+        objectMapper.readValue(
+            "{\"list\":{\"entries\":[{\"entry\":" + entry + "}]}}", AuditEntryPaging.class));
+  }
+}
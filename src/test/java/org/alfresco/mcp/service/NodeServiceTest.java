@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.handler.NodesApi;
+import org.alfresco.core.handler.VersionsApi;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.core.model.Node;
+import org.alfresco.core.model.NodeEntry;
+import org.alfresco.core.model.PermissionsInfo;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.logging.LoggingProperties;
+import org.alfresco.mcp.logging.PayloadLogger;
+import org.alfresco.mcp.model.NodeDossier;
+import org.alfresco.mcp.model.OperationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class NodeServiceTest {
+
+  private static final String NODE_ID = "12345678-1234-1234-1234-123456789012";
+
+  private final NodesApi nodesApi = mock(NodesApi.class);
+  private final VersionsApi versionsApi = mock(VersionsApi.class);
+  private final AuditApi auditApi = mock(AuditApi.class);
+  private final ExecutionProperties executionProperties =
+      new ExecutionProperties(Duration.ofSeconds(60), Map.of(), 4, 8, Duration.ofMillis(200));
+  private final UpstreamExecutor upstream = new UpstreamExecutor(executionProperties);
+  private final NodeService nodeService =
+      new NodeService(
+          nodesApi,
+          versionsApi,
+          auditApi,
+          upstream,
+          executionProperties,
+          new PayloadLogger(new LoggingProperties(2048, 1.0, Map.of())));
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @AfterEach
+  void shutDown() {
+    upstream.destroy();
+  }
+
+  @Test
+  void dossierListsSlowAndFailingPartsAndReturnsTheRest() throws Exception {
+    PermissionsInfo permissions = new PermissionsInfo().isInheritanceEnabled(true);
+    CountDownLatch slowPartInterrupted = new CountDownLatch(1);
+    when(nodesApi.getNode(eq(NODE_ID), any(), any(), any()))
+        .thenReturn(
+            ResponseEntity.ok(
+                new NodeEntry().entry(new Node().id(NODE_ID).permissions(permissions))));
+    when(nodesApi.listParents(eq(NODE_ID), any(), any(), anyInt(), anyInt(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              try {
+                Thread.sleep(10_000);
+              } catch (InterruptedException e) {
+                slowPartInterrupted.countDown();
+              }
+              return null;
+            });
+    when(versionsApi.listVersionHistory(eq(NODE_ID), any(), any(), anyInt(), anyInt()))
+        .thenThrow(new IllegalStateException("Version store unavailable"));
+    when(auditApi.listAuditEntriesForNode(
+            eq(NODE_ID), anyInt(), any(), anyInt(), any(), any(), any()))
+        .thenReturn(auditPage());
+
+    OperationResponse<Object> response = nodeService.getNodeDossier(NODE_ID, 5000);
+
+    NodeDossier dossier = (NodeDossier) response.getData();
+    assertThat(response.isSuccess()).isTrue();
+    assertThat(dossier.failures()).containsOnlyKeys("parents", "versions");
+    assertThat(dossier.failures().get("versions")).isEqualTo("Version store unavailable");
+    assertThat(dossier.parents()).isNull();
+    assertThat(dossier.versions()).isNull();
+    assertThat(dossier.auditEntries()).hasSize(1);
+    assertThat(dossier.permissions()).isSameAs(permissions);
+    assertThat(dossier.node().getPermissions()).isNull();
+    assertThat(response.getMessages()).hasSize(2);
+    assertThat(slowPartInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    verify(auditApi)
+        .listAuditEntriesForNode(
+            NODE_ID, 0, List.of("createdAt DESC"), 1000, null, List.of("values"), null);
+  }
+
+  @Test
+  void dossierWithoutTheNodeIsNotSuccessful() throws Exception {
+    when(nodesApi.getNode(eq(NODE_ID), any(), any(), any()))
+        .thenThrow(new IllegalStateException("Node not found"));
+    when(auditApi.listAuditEntriesForNode(
+            eq(NODE_ID), anyInt(), any(), anyInt(), any(), any(), any()))
+        .thenReturn(auditPage());
+
+    OperationResponse<Object> response = nodeService.getNodeDossier(NODE_ID, null);
+
+    NodeDossier dossier = (NodeDossier) response.getData();
+    assertThat(response.isSuccess()).isFalse();
+    assertThat(dossier.failures()).containsKey("node");
+    assertThat(dossier.permissions()).isNull();
+    assertThat(dossier.auditEntries()).hasSize(1);
+  }
+
+  private ResponseEntity<AuditEntryPaging> auditPage() throws Exception {
+    return ResponseEntity.ok(
+        objectMapper.readValue(
+            "{\"list\":{\"entries\":[{\"entry\":{\"id\":7}}]}}", AuditEntryPaging.class));
+  }
+}
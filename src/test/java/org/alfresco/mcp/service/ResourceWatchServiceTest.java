@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 Jared Ottley
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.alfresco.mcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpServerSession;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.alfresco.core.handler.AuditApi;
+import org.alfresco.core.handler.NodesApi;
+import org.alfresco.core.model.AuditEntryPaging;
+import org.alfresco.core.model.Node;
+import org.alfresco.core.model.NodeEntry;
+import org.alfresco.mcp.execution.ExecutionProperties;
+import org.alfresco.mcp.execution.UpstreamExecutor;
+import org.alfresco.mcp.model.OperationResponse;
+import org.alfresco.mcp.model.ResourceWatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+class ResourceWatchServiceTest {
+
+  private static final String NODE_URI = "alfresco://nodes/n1";
+
+  private final AuditApi auditApi = mock(AuditApi.class);
+  private final NodesApi nodesApi = mock(NodesApi.class);
+  private final UpstreamExecutor upstream =
+      new UpstreamExecutor(
+          new ExecutionProperties(Duration.ofSeconds(60), Map.of(), 1, 8, Duration.ofSeconds(10)));
+  private final McpSchema.Implementation first = new McpSchema.Implementation("agent", "1.0");
+  private final McpSchema.Implementation second = new McpSchema.Implementation("agent", "1.0");
+  private final AtomicLong now = new AtomicLong();
+
+  private ResourceWatchService service;
+
+  @AfterEach
+  void shutDown() {
+    service.destroy();
+    upstream.destroy();
+  }
+
+  @Test
+  void countsEachSessionOnceAndReleasesWithTheLastOne() {
+    service = service(Duration.ofMinutes(30));
+    ResponseEntity<NodeEntry> node = ResponseEntity.ok(new NodeEntry().entry(new Node().id("n1")));
+    when(nodesApi.getNode("n1", null, null, null)).thenReturn(node);
+
+    assertThat(watchers(service.watchNode("n1", context(first)))).isEqualTo(1);
+    assertThat(watchers(service.watchNode("n1", context(first)))).isEqualTo(1);
+    assertThat(watchers(service.watchNode("n1", context(second)))).isEqualTo(2);
+    verify(nodesApi, times(1)).getNode("n1", null, null, null);
+
+    assertThat(service.unwatchResource(NODE_URI, context(first)).isSuccess()).isTrue();
+    assertThat(service.unwatchResource(NODE_URI, context(first)).isSuccess()).isFalse();
+    assertThat(service.getStatistics()).containsEntry("nodes", 1).containsEntry("watchers", 1);
+
+    assertThat(service.unwatchResource(NODE_URI, context(second)).isSuccess()).isTrue();
+    assertThat(service.getStatistics()).containsEntry("nodes", 0).containsEntry("watchers", 0);
+  }
+
+  @Test
+  void subscriptionsOfSilentSessionsLapse() {
+    service = service(Duration.ofMillis(200));
+    ResponseEntity<AuditEntryPaging> empty = ResponseEntity.ok(new AuditEntryPaging());
+    when(auditApi.listAuditEntriesForAuditApp(
+            any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(empty);
+
+    service.watchAuditApplication("alfresco-access", context(first));
+    service.watchAuditApplication("alfresco-access", context(second));
+    now.addAndGet(150);
+    assertThat(service.getWatchedAuditEntries("alfresco-access", null, context(first)).isSuccess())
+        .isTrue();
+    now.addAndGet(100);
+
+    service.expireSubscriptions();
+    assertThat(service.getStatistics())
+        .containsEntry("auditApplications", 1)
+        .containsEntry("watchers", 1)
+        .containsEntry("expiredSubscriptions", 1L);
+
+    now.addAndGet(100);
+    service.expireSubscriptions();
+    assertThat(service.getStatistics())
+        .containsEntry("auditApplications", 1)
+        .containsEntry("expiredSubscriptions", 1L);
+
+    now.addAndGet(1);
+    service.expireSubscriptions();
+    assertThat(service.getStatistics())
+        .containsEntry("auditApplications", 0)
+        .containsEntry("expiredSubscriptions", 2L);
+  }
+
+  @Test
+  void notifiesOnlyTheSessionsWatchingTheChangedResource() {
+    service = service(Duration.ofMinutes(30));
+    Node created = new Node().id("n1");
+    Node modified = new Node().id("n1").modifiedAt(OffsetDateTime.now());
+    ResponseEntity<NodeEntry> before = ResponseEntity.ok(new NodeEntry().entry(created));
+    ResponseEntity<NodeEntry> after = ResponseEntity.ok(new NodeEntry().entry(modified));
+    when(nodesApi.getNode("n1", null, null, null)).thenReturn(before, after);
+    ResponseEntity<AuditEntryPaging> empty = ResponseEntity.ok(new AuditEntryPaging());
+    when(auditApi.listAuditEntriesForAuditApp(
+            any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(empty);
+    McpServerSession watching = connection();
+    McpServerSession other = connection();
+
+    service.watchNode("n1", context(first, watching));
+    service.watchAuditApplication("other", context(second, other));
+    service.poll();
+
+    verify(watching)
+        .sendNotification(ResourceWatchService.RESOURCES_UPDATED, Map.of("uri", NODE_URI));
+    verify(other, never()).sendNotification(any(), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private ResourceWatchService service(Duration subscriptionTimeout) {
+    return new ResourceWatchService(
+        auditApi,
+        nodesApi,
+        upstream,
+        new WatchProperties(Duration.ofHours(1), 200, 1000, 500, subscriptionTimeout),
+        new ObjectMapper(),
+        mock(ObjectProvider.class),
+        mock(ObjectProvider.class),
+        mock(ObjectProvider.class),
+        now::get);
+  }
+
+  private static int watchers(OperationResponse<Object> response) {
+    return ((ResourceWatch) response.getData()).watchers();
+  }
+
+  private static ToolContext context(McpSchema.Implementation clientInfo) {
+    return context(clientInfo, null);
+  }
+
+  /** Every request gets its own exchange, sharing the client info of its session. */
+  private static ToolContext context(
+      McpSchema.Implementation clientInfo, McpServerSession connection) {
+    McpSyncServerExchange exchange =
+        new McpSyncServerExchange(
+            new McpAsyncServerExchange(
+                connection, new McpSchema.ClientCapabilities(null, null, null), clientInfo));
+    return new ToolContext(Map.of(McpToolUtils.TOOL_CONTEXT_MCP_EXCHANGE_KEY, exchange));
+  }
+
+  private static McpServerSession connection() {
+    McpServerSession connection = mock(McpServerSession.class);
+    when(connection.sendNotification(any(), any())).thenReturn(Mono.empty());
+    return connection;
+  }
+}